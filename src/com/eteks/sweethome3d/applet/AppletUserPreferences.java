@@ -328,52 +328,52 @@ public class AppletUserPreferences extends UserPreferences {
   private void updateDefaultCatalogs() {
     // Delete default pieces of current furniture catalog          
     final FurnitureCatalog furnitureCatalog = getFurnitureCatalog();
+    List<CatalogPieceOfFurniture> defaultFurniture = new ArrayList<CatalogPieceOfFurniture>();
     for (FurnitureCategory category : furnitureCatalog.getCategories()) {
       for (CatalogPieceOfFurniture piece : category.getFurniture()) {
         if (!piece.isModifiable()) {
-          furnitureCatalog.delete(piece);
+          defaultFurniture.add(piece);
         }
       }
     }
+    furnitureCatalog.deleteAll(defaultFurniture);
     // Add default pieces 
     this.catalogsLoader.execute(new Runnable() {
         public void run() {
           final DefaultFurnitureCatalog defaultFurnitureCatalog = 
               new DefaultFurnitureCatalog(pluginFurnitureCatalogURLs, furnitureResourcesUrlBase);
           for (final FurnitureCategory category : defaultFurnitureCatalog.getCategories()) {
-            for (final CatalogPieceOfFurniture piece : category.getFurniture()) {
-              updater.execute(new Runnable() {
-                  public void run() {
-                    furnitureCatalog.add(category, piece);
-                  }
-                });
-            }
+            updater.execute(new Runnable() {
+                public void run() {
+                  furnitureCatalog.addAll(category, category.getFurniture());
+                }
+              });
           }
         }
       });
 
     // Delete default textures of current textures catalog          
     final TexturesCatalog texturesCatalog = getTexturesCatalog();
+    List<CatalogTexture> defaultTextures = new ArrayList<CatalogTexture>();
     for (TexturesCategory category : texturesCatalog.getCategories()) {
       for (CatalogTexture texture : category.getTextures()) {
         if (!texture.isModifiable()) {
-          texturesCatalog.delete(texture);
+          defaultTextures.add(texture);
         }
       }
     }
+    texturesCatalog.deleteAll(defaultTextures);
     // Add default textures
     this.catalogsLoader.execute(new Runnable() {
         public void run() {
           final DefaultTexturesCatalog defaultTexturesCatalog = 
               new DefaultTexturesCatalog(pluginTexturesCatalogURLs, texturesResourcesUrlBase);
           for (final TexturesCategory category : defaultTexturesCatalog.getCategories()) {
-            for (final CatalogTexture texture : category.getTextures()) {
-              updater.execute(new Runnable() {
-                  public void run() {
-                    texturesCatalog.add(category, texture);
-                  }
-                });
-            }
+            updater.execute(new Runnable() {
+                public void run() {
+                  texturesCatalog.addAll(category, category.getTextures());
+                }
+              });
           }
         }
       });
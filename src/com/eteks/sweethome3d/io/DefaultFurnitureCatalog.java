@@ -26,6 +26,7 @@ import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.security.AccessControlException;
+import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -33,13 +34,22 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
 
 import com.eteks.sweethome3d.model.CatalogDoorOrWindow;
 import com.eteks.sweethome3d.model.CatalogLight;
@@ -367,6 +377,15 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
   private static final String ADDITIONAL_FURNITURE_CATALOG_FAMILY  = "AdditionalFurnitureCatalog";
 
   private static Map<ResourceBundle, Map<Integer, List<String>>> furnitureAdditionalKeys = new WeakHashMap<ResourceBundle, Map<Integer,List<String>>>();
+  private static Map<ResourceBundle, Set<String>> resourceKeys = new WeakHashMap<ResourceBundle, Set<String>>();
+
+  private static final Pattern TAGS_SEPARATOR = Pattern.compile("\\s*,\\s*");
+  private static final ThreadLocal<DateFormat> CREATION_DATE_FORMAT = new ThreadLocal<DateFormat>() {
+      @Override
+      protected DateFormat initialValue() {
+        return new SimpleDateFormat("yyyy-MM-dd");
+      }
+    };
 
   private List<Library> libraries = new ArrayList<Library>();
 
@@ -400,28 +419,27 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
    */
   public DefaultFurnitureCatalog(final UserPreferences preferences,
                                  File [] furniturePluginFolders) {
-    List<String> identifiedFurniture = new ArrayList<String>();
+    Set<String> identifiedFurniture = new HashSet<String>();
 
     readDefaultFurnitureCatalogs(preferences, identifiedFurniture);
 
     if (furniturePluginFolders != null) {
+      List<File> pluginFurnitureCatalogFiles = new ArrayList<File>();
       for (File furniturePluginFolder : furniturePluginFolders) {
         // Try to load sh3f files from furniture plugin folder
-        File [] pluginFurnitureCatalogFiles = furniturePluginFolder.listFiles(new FileFilter () {
+        File [] pluginFolderFiles = furniturePluginFolder.listFiles(new FileFilter () {
           public boolean accept(File pathname) {
             return pathname.isFile();
           }
         });
 
-        if (pluginFurnitureCatalogFiles != null) {
+        if (pluginFolderFiles != null) {
           // Treat furniture catalog files in reverse order of their version
-          Arrays.sort(pluginFurnitureCatalogFiles, Collections.reverseOrder(OperatingSystem.getFileVersionComparator()));
-          for (File pluginFurnitureCatalogFile : pluginFurnitureCatalogFiles) {
-            // Try to load the properties file describing furniture catalog from current file
-            readPluginFurnitureCatalog(pluginFurnitureCatalogFile, identifiedFurniture);
-          }
+          Arrays.sort(pluginFolderFiles, Collections.reverseOrder(OperatingSystem.getFileVersionComparator()));
+          pluginFurnitureCatalogFiles.addAll(Arrays.asList(pluginFolderFiles));
         }
       }
+      readPluginFurnitureCatalogs(pluginFurnitureCatalogFiles, identifiedFurniture);
     }
   }
 
@@ -439,7 +457,7 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
    */
   public DefaultFurnitureCatalog(URL [] pluginFurnitureCatalogUrls,
                                  URL    furnitureResourcesUrlBase) {
-    List<String> identifiedFurniture = new ArrayList<String>();
+    Set<String> identifiedFurniture = new HashSet<String>();
     try {
       SecurityManager securityManager = System.getSecurityManager();
       if (securityManager != null) {
@@ -476,15 +494,80 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
 
   private static final Map<File,URL> pluginFurnitureCatalogUrlUpdates = new HashMap<File, URL>();
 
+  /**
+   * The library and the furniture read from a plug-in furniture catalog file.
+   */
+  private static class PluginFurnitureCatalog {
+    private final Library                       library;
+    private final List<CatalogPieceOfFurniture> furniture  = new ArrayList<CatalogPieceOfFurniture>();
+    private final List<FurnitureCategory>       categories = new ArrayList<FurnitureCategory>();
+
+    public PluginFurnitureCatalog(Library library) {
+      this.library = library;
+    }
+  }
+
+  /**
+   * Reads plug-in furniture catalogs from the given files. Files are parsed in parallel
+   * but their furniture is added to this catalog in the order of <code>pluginFurnitureCatalogFiles</code>.
+   */
+  private void readPluginFurnitureCatalogs(List<File> pluginFurnitureCatalogFiles,
+                                           Set<String> identifiedFurniture) {
+    int filesCount = pluginFurnitureCatalogFiles.size();
+    if (filesCount == 1) {
+      addPluginFurnitureCatalog(readPluginFurnitureCatalog(pluginFurnitureCatalogFiles.get(0)), identifiedFurniture);
+    } else if (filesCount > 1) {
+      ExecutorService catalogsReader = Executors.newFixedThreadPool(
+          Math.min(filesCount, Runtime.getRuntime().availableProcessors()));
+      try {
+        List<Future<PluginFurnitureCatalog>> pluginFurnitureCatalogs = new ArrayList<Future<PluginFurnitureCatalog>>(filesCount);
+        for (final File pluginFurnitureCatalogFile : pluginFurnitureCatalogFiles) {
+          pluginFurnitureCatalogs.add(catalogsReader.submit(new Callable<PluginFurnitureCatalog>() {
+              public PluginFurnitureCatalog call() {
+                return readPluginFurnitureCatalog(pluginFurnitureCatalogFile);
+              }
+            }));
+        }
+        for (Future<PluginFurnitureCatalog> pluginFurnitureCatalog : pluginFurnitureCatalogs) {
+          try {
+            addPluginFurnitureCatalog(pluginFurnitureCatalog.get(), identifiedFurniture);
+          } catch (ExecutionException ex) {
+            // Ignore catalog that couldn't be read
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            break;
+          }
+        }
+      } finally {
+        catalogsReader.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * Adds the library and the furniture of the given plug-in catalog to this catalog.
+   */
+  private void addPluginFurnitureCatalog(PluginFurnitureCatalog pluginFurnitureCatalog,
+                                         Set<String> identifiedFurniture) {
+    if (pluginFurnitureCatalog != null) {
+      this.libraries.add(0, pluginFurnitureCatalog.library);
+      addFurniture(pluginFurnitureCatalog.furniture, pluginFurnitureCatalog.categories, identifiedFurniture);
+    }
+  }
+
   /**
    * Reads plug-in furniture catalog from the <code>pluginFurnitureCatalogFile</code> file.
+   * This method may be called from any thread.
+   * @return the read catalog or <code>null</code> if the file isn't a valid furniture library
    */
-  private void readPluginFurnitureCatalog(File pluginFurnitureCatalogFile,
-                                          List<String> identifiedFurniture) {
+  private PluginFurnitureCatalog readPluginFurnitureCatalog(File pluginFurnitureCatalogFile) {
     try {
       final URL pluginFurnitureCatalogUrl;
       long urlModificationDate = pluginFurnitureCatalogFile.lastModified();
-      URL urlUpdate = pluginFurnitureCatalogUrlUpdates.get(pluginFurnitureCatalogFile);
+      URL urlUpdate;
+      synchronized (pluginFurnitureCatalogUrlUpdates) {
+        urlUpdate = pluginFurnitureCatalogUrlUpdates.get(pluginFurnitureCatalogFile);
+      }
       if (pluginFurnitureCatalogFile.canWrite()
           && (urlUpdate == null
               || urlUpdate.openConnection().getLastModified() < urlModificationDate)) {
@@ -492,7 +575,9 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
         // reference any file of the catalog file even if its content is changed afterwards
         TemporaryURLContent contentCopy = TemporaryURLContent.copyToTemporaryURLContent(new URLContent(pluginFurnitureCatalogFile.toURI().toURL()));
         URL temporaryFurnitureCatalogUrl = contentCopy.getURL();
-        pluginFurnitureCatalogUrlUpdates.put(pluginFurnitureCatalogFile, temporaryFurnitureCatalogUrl);
+        synchronized (pluginFurnitureCatalogUrlUpdates) {
+          pluginFurnitureCatalogUrlUpdates.put(pluginFurnitureCatalogFile, temporaryFurnitureCatalogUrl);
+        }
         pluginFurnitureCatalogUrl = temporaryFurnitureCatalogUrl;
       } else if (urlUpdate != null) {
         pluginFurnitureCatalogUrl = urlUpdate;
@@ -502,9 +587,12 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
 
       final ClassLoader urlLoader = new URLContentClassLoader(pluginFurnitureCatalogUrl);
       ResourceBundle resourceBundle = ResourceBundle.getBundle(PLUGIN_FURNITURE_CATALOG_FAMILY, Locale.getDefault(), urlLoader);
-      this.libraries.add(0, new DefaultLibrary(pluginFurnitureCatalogFile.getCanonicalPath(),
-          UserPreferences.FURNITURE_LIBRARY_TYPE, resourceBundle));
-      readFurniture(resourceBundle, pluginFurnitureCatalogUrl, null, identifiedFurniture);
+      PluginFurnitureCatalog pluginFurnitureCatalog = new PluginFurnitureCatalog(
+          new DefaultLibrary(pluginFurnitureCatalogFile.getCanonicalPath(),
+              UserPreferences.FURNITURE_LIBRARY_TYPE, resourceBundle));
+      readFurniture(resourceBundle, pluginFurnitureCatalogUrl, null,
+          pluginFurnitureCatalog.furniture, pluginFurnitureCatalog.categories);
+      return pluginFurnitureCatalog;
     } catch (MissingResourceException ex) {
       // Ignore malformed furniture catalog
     } catch (IllegalArgumentException ex) {
@@ -512,13 +600,14 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
     } catch (IOException ex) {
       // Ignore unaccessible catalog
     }
+    return null;
   }
 
   /**
    * Reads the default furniture described in properties files accessible through classpath.
    */
   private void readDefaultFurnitureCatalogs(UserPreferences preferences,
-                                            List<String> identifiedFurniture) {
+                                            Set<String> identifiedFurniture) {
     // Try to load com.eteks.sweethome3d.io.DefaultFurnitureCatalog property file from classpath
     String defaultFurnitureCatalogFamily = DefaultFurnitureCatalog.class.getName();
     readFurnitureCatalog(defaultFurnitureCatalogFamily,
@@ -539,7 +628,7 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
    */
   private void readFurnitureCatalog(final String furnitureCatalogFamily,
                                     final UserPreferences preferences,
-                                    List<String> identifiedFurniture) {
+                                    Set<String> identifiedFurniture) {
     ResourceBundle resource;
     if (preferences != null) {
       // Adapt getLocalizedString to ResourceBundle
@@ -586,17 +675,56 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
   private void readFurniture(ResourceBundle resource,
                              URL furnitureCatalogUrl,
                              URL furnitureResourcesUrlBase,
-                             List<String> identifiedFurniture) {
+                             Set<String> identifiedFurniture) {
+    List<CatalogPieceOfFurniture> furniture = new ArrayList<CatalogPieceOfFurniture>();
+    List<FurnitureCategory> categories = new ArrayList<FurnitureCategory>();
+    readFurniture(resource, furnitureCatalogUrl, furnitureResourcesUrlBase, furniture, categories);
+    addFurniture(furniture, categories, identifiedFurniture);
+  }
+
+  /**
+   * Adds the given furniture to their matching category, ignoring the pieces with an ID
+   * that belongs to <code>identifiedFurniture</code>.
+   */
+  private void addFurniture(List<CatalogPieceOfFurniture> furniture,
+                            List<FurnitureCategory> categories,
+                            Set<String> identifiedFurniture) {
+    Map<FurnitureCategory, List<CatalogPieceOfFurniture>> categoriesFurniture =
+        new LinkedHashMap<FurnitureCategory, List<CatalogPieceOfFurniture>>();
+    for (int i = 0; i < furniture.size(); i++) {
+      CatalogPieceOfFurniture piece = furniture.get(i);
+      // Take into account only furniture that have an ID, and add its id to identifiedFurniture
+      // to be sure that two pieces with a same ID won't be added twice to furniture catalog
+      // (in case they are cited twice in different furniture properties files)
+      if (piece.getId() == null
+          || identifiedFurniture.add(piece.getId())) {
+        List<CatalogPieceOfFurniture> categoryFurniture = categoriesFurniture.get(categories.get(i));
+        if (categoryFurniture == null) {
+          categoryFurniture = new ArrayList<CatalogPieceOfFurniture>();
+          categoriesFurniture.put(categories.get(i), categoryFurniture);
+        }
+        categoryFurniture.add(piece);
+      }
+    }
+    for (Map.Entry<FurnitureCategory, List<CatalogPieceOfFurniture>> entry : categoriesFurniture.entrySet()) {
+      addAll(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Reads each piece of furniture described in <code>resource</code> bundle and its category
+   * in <code>furniture</code> and <code>categories</code> lists.
+   * This method doesn't change the state of this catalog and may be called from any thread.
+   */
+  private void readFurniture(ResourceBundle resource,
+                             URL furnitureCatalogUrl,
+                             URL furnitureResourcesUrlBase,
+                             List<CatalogPieceOfFurniture> furniture,
+                             List<FurnitureCategory> categories) {
     int index = 0;
     while (true) {
       // Ignore furniture with a key ignored# set at true
-      String ignored;
-      try {
-        ignored = resource.getString("ignored#" + (++index));
-      } catch (MissingResourceException ex) {
-        // Not ignored
-        ignored = null;
-      }
+      String ignored = getOptionalString(resource, "ignored#" + (++index), null);
 
       if (ignored == null || !Boolean.parseBoolean(ignored)) {
         CatalogPieceOfFurniture piece = ignored == null
@@ -606,19 +734,8 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
           // Read furniture until no data is found at current index
           break;
         } else {
-          if (piece.getId() != null) {
-            // Take into account only furniture that have an ID
-            if (identifiedFurniture.contains(piece.getId())) {
-              continue;
-            } else {
-              // Add id to identifiedFurniture to be sure that two pieces with a same ID
-              // won't be added twice to furniture catalog (in case they are cited twice
-              // in different furniture properties files)
-              identifiedFurniture.add(piece.getId());
-            }
-          }
-          FurnitureCategory pieceCategory = readFurnitureCategory(resource, index);
-          add(pieceCategory, piece);
+          furniture.add(piece);
+          categories.add(readFurnitureCategory(resource, index));
         }
       }
     }
@@ -631,10 +748,12 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
   protected Map<String, String> getAdditionalProperties(ResourceBundle resource,
                                                         int index) {
     // Get all property keys of furniture different from default properties
-    Map<Integer, List<String>> catalogAdditionalKeys = furnitureAdditionalKeys.get(resource);
+    Map<Integer, List<String>> catalogAdditionalKeys;
+    synchronized (furnitureAdditionalKeys) {
+      catalogAdditionalKeys = furnitureAdditionalKeys.get(resource);
+    }
     if (catalogAdditionalKeys == null) {
       catalogAdditionalKeys = new HashMap<Integer, List<String>>();
-      furnitureAdditionalKeys.put(resource, catalogAdditionalKeys);
       for (Enumeration<String> keys = resource.getKeys(); keys.hasMoreElements(); ) {
         String key = keys.nextElement();
         int sharpIndex = key.lastIndexOf('#');
@@ -656,6 +775,9 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
           }
         }
       }
+      synchronized (furnitureAdditionalKeys) {
+        furnitureAdditionalKeys.put(resource, catalogAdditionalKeys);
+      }
     }
 
     List<String> additionalKeys = catalogAdditionalKeys.get(index);
@@ -707,10 +829,8 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
                                                          int index,
                                                          URL furnitureCatalogUrl,
                                                          URL furnitureResourcesUrlBase) {
-    String name = null;
-    try {
-      name = resource.getString(PropertyKey.NAME.getKey(index));
-    } catch (MissingResourceException ex) {
+    String name = getOptionalString(resource, PropertyKey.NAME.getKey(index), null);
+    if (name == null) {
       // Return null if key name# doesn't exist
       return null;
     }
@@ -720,7 +840,7 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
     String tagsString = getOptionalString(resource, PropertyKey.TAGS.getKey(index), null);
     String [] tags;
     if (tagsString != null) {
-      tags = tagsString.split("\\s*,\\s*");
+      tags = TAGS_SEPARATOR.split(tagsString);
     } else {
       tags = new String [0];
     }
@@ -728,7 +848,7 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
     Long creationDate = null;
     if (creationDateString != null) {
       try {
-        creationDate = new SimpleDateFormat("yyyy-MM-dd").parse(creationDateString).getTime();
+        creationDate = CREATION_DATE_FORMAT.get().parse(creationDateString).getTime();
       } catch (ParseException ex) {
         throw new IllegalArgumentException("Can't parse date "+ creationDateString, ex);
       }
@@ -768,18 +888,15 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
     boolean deformable = getOptionalBoolean(resource, PropertyKey.DEFORMABLE.getKey(index), true);
     boolean texturable = getOptionalBoolean(resource, PropertyKey.TEXTURABLE.getKey(index), true);
     boolean horizontallyRotatable = getOptionalBoolean(resource, PropertyKey.HORIZONTALLY_ROTATABLE.getKey(index), true);
-    BigDecimal price = null;
-    try {
-      price = new BigDecimal(resource.getString(PropertyKey.PRICE.getKey(index)));
-    } catch (MissingResourceException ex) {
-      // By default price is null
-    }
-    BigDecimal valueAddedTaxPercentage = null;
-    try {
-      valueAddedTaxPercentage = new BigDecimal(resource.getString(PropertyKey.VALUE_ADDED_TAX_PERCENTAGE.getKey(index)));
-    } catch (MissingResourceException ex) {
-      // By default price is null
-    }
+    // By default price and VAT are null
+    String priceString = getOptionalString(resource, PropertyKey.PRICE.getKey(index), null);
+    BigDecimal price = priceString != null
+        ? new BigDecimal(priceString)
+        : null;
+    String valueAddedTaxPercentageString = getOptionalString(resource, PropertyKey.VALUE_ADDED_TAX_PERCENTAGE.getKey(index), null);
+    BigDecimal valueAddedTaxPercentage = valueAddedTaxPercentageString != null
+        ? new BigDecimal(valueAddedTaxPercentageString)
+        : null;
     String currency = getOptionalString(resource, PropertyKey.CURRENCY.getKey(index), null);
 
     Map<String, String> additionalProperties = getAdditionalProperties(resource, index);
@@ -851,31 +968,28 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
       return null;
     }
     URLContent content;
-    try {
-      // Try first to interpret contentFile as an absolute URL
-      // or an URL relative to resourceUrlBase if it's not null
-      URL url;
-      if (resourceUrlBase == null) {
-        url = new URL(contentFile);
-      } else {
-        url = contentFile.startsWith("?")
-            ? new URL(resourceUrlBase + contentFile)
-            : new URL(resourceUrlBase, contentFile);
-        if (contentFile.indexOf("!/") >= 0 && !contentFile.startsWith("jar:")) {
-          url = new URL("jar:" + url);
-        }
-      }
-      content = new URLContent(url);
-    } catch (MalformedURLException ex) {
-      if (furnitureUrl == null) {
-        // Otherwise find if it's a resource
-        content = new ResourceURLContent(DefaultFurnitureCatalog.class, contentFile, multiPartModel);
-      } else {
-        try {
-          content = new ResourceURLContent(new URL("jar:" + furnitureUrl + "!" + contentFile), multiPartModel);
-        } catch (MalformedURLException ex2) {
-          throw new IllegalArgumentException("Invalid URL", ex2);
+    if (resourceUrlBase == null
+        && contentFile.indexOf(':') == -1) {
+      // Search directly the resource matching a path that can't be an absolute URL
+      content = getResourceContent(contentFile, furnitureUrl, multiPartModel);
+    } else {
+      try {
+        // Try first to interpret contentFile as an absolute URL
+        // or an URL relative to resourceUrlBase if it's not null
+        URL url;
+        if (resourceUrlBase == null) {
+          url = new URL(contentFile);
+        } else {
+          url = contentFile.startsWith("?")
+              ? new URL(resourceUrlBase + contentFile)
+              : new URL(resourceUrlBase, contentFile);
+          if (contentFile.indexOf("!/") >= 0 && !contentFile.startsWith("jar:")) {
+            url = new URL("jar:" + url);
+          }
         }
+        content = new URLContent(url);
+      } catch (MalformedURLException ex) {
+        content = getResourceContent(contentFile, furnitureUrl, multiPartModel);
       }
     }
 
@@ -894,12 +1008,32 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
     return content;
   }
 
+  /**
+   * Returns the content of the resource <code>contentFile</code> searched in current classpath
+   * if <code>furnitureUrl</code> is <code>null</code> or in the file it references.
+   * @throws IllegalArgumentException if the resource URL is invalid.
+   */
+  private URLContent getResourceContent(String contentFile, URL furnitureUrl, boolean multiPartModel) {
+    if (furnitureUrl == null) {
+      return new ResourceURLContent(DefaultFurnitureCatalog.class, contentFile, multiPartModel);
+    } else {
+      try {
+        return new ResourceURLContent(new URL("jar:" + furnitureUrl + "!" + contentFile), multiPartModel);
+      } catch (MalformedURLException ex) {
+        throw new IllegalArgumentException("Invalid URL", ex);
+      }
+    }
+  }
+
   /**
    * Returns model rotation parsed from key value.
    */
   private float [][] getModelRotation(ResourceBundle resource, String key) {
+    String modelRotationString = getOptionalString(resource, key, null);
+    if (modelRotationString == null) {
+      return null;
+    }
     try {
-      String modelRotationString = resource.getString(key);
       String [] values = modelRotationString.split(" ", 9);
 
       if (values.length == 9) {
@@ -915,8 +1049,6 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
       } else {
         return null;
       }
-    } catch (MissingResourceException ex) {
-      return null;
     } catch (NumberFormatException ex) {
       return null;
     }
@@ -1034,6 +1166,10 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
   private String getOptionalString(ResourceBundle resource,
                                    String propertyKey,
                                    String defaultValue) {
+    if (!getResourceKeys(resource).contains(propertyKey)) {
+      // Avoid the cost of a MissingResourceException for the many optional keys that are often missing
+      return defaultValue;
+    }
     try {
       return resource.getString(propertyKey);
     } catch (MissingResourceException ex) {
@@ -1041,6 +1177,26 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
     }
   }
 
+  /**
+   * Returns the keys available in the given <code>resource</code>.
+   */
+  private static Set<String> getResourceKeys(ResourceBundle resource) {
+    Set<String> keys;
+    synchronized (resourceKeys) {
+      keys = resourceKeys.get(resource);
+    }
+    if (keys == null) {
+      keys = new HashSet<String>();
+      for (Enumeration<String> it = resource.getKeys(); it.hasMoreElements(); ) {
+        keys.add(it.nextElement());
+      }
+      synchronized (resourceKeys) {
+        resourceKeys.put(resource, keys);
+      }
+    }
+    return keys;
+  }
+
   /**
    * Returns the value of <code>propertyKey</code> in <code>resource</code>,
    * or <code>defaultValue</code> if the property doesn't exist.
@@ -1048,11 +1204,10 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
   private float getOptionalFloat(ResourceBundle resource,
                                  String propertyKey,
                                  float defaultValue) {
-    try {
-      return Float.parseFloat(resource.getString(propertyKey));
-    } catch (MissingResourceException ex) {
-      return defaultValue;
-    }
+    String value = getOptionalString(resource, propertyKey, null);
+    return value != null
+        ? Float.parseFloat(value)
+        : defaultValue;
   }
 
   /**
@@ -1062,11 +1217,10 @@ public class DefaultFurnitureCatalog extends FurnitureCatalog {
   private boolean getOptionalBoolean(ResourceBundle resource,
                                      String propertyKey,
                                      boolean defaultValue) {
-    try {
-      return Boolean.parseBoolean(resource.getString(propertyKey));
-    } catch (MissingResourceException ex) {
-      return defaultValue;
-    }
+    String value = getOptionalString(resource, propertyKey, null);
+    return value != null
+        ? Boolean.parseBoolean(value)
+        : defaultValue;
   }
 }
 
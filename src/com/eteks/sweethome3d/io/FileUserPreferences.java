@@ -574,13 +574,15 @@ public class FileUserPreferences extends UserPreferences {
           updater.execute(new Runnable() {
               public void run() {
                 // Delete default furniture of current furniture catalog
+                List<CatalogPieceOfFurniture> defaultFurniture = new ArrayList<CatalogPieceOfFurniture>();
                 for (FurnitureCategory category : furnitureCatalog.getCategories()) {
                   for (CatalogPieceOfFurniture piece : category.getFurniture()) {
                     if (!piece.isModifiable()) {
-                      furnitureCatalog.delete(piece);
+                      defaultFurniture.add(piece);
                     }
                   }
                 }
+                furnitureCatalog.deleteAll(defaultFurniture);
               }
             });
 
@@ -588,13 +590,12 @@ public class FileUserPreferences extends UserPreferences {
           final FurnitureCatalog resourceFurnitureCatalog =
               readFurnitureCatalogFromResource(getFurnitureLibrariesPluginFolders());
           for (final FurnitureCategory category : resourceFurnitureCatalog.getCategories()) {
-            for (final CatalogPieceOfFurniture piece : category.getFurniture()) {
-              updater.execute(new Runnable() {
-                  public void run() {
-                    furnitureCatalog.add(category, piece);
-                  }
-                });
-            }
+            // Add the furniture of each category in one task rather than one task per piece
+            updater.execute(new Runnable() {
+                public void run() {
+                  furnitureCatalog.addAll(category, category.getFurniture());
+                }
+              });
           }
           if (resourceFurnitureCatalog instanceof DefaultFurnitureCatalog) {
             updater.execute(new Runnable() {
@@ -640,13 +641,15 @@ public class FileUserPreferences extends UserPreferences {
           updater.execute(new Runnable() {
               public void run() {
                 // Delete default textures of current textures catalog
+                List<CatalogTexture> defaultTextures = new ArrayList<CatalogTexture>();
                 for (TexturesCategory category : texturesCatalog.getCategories()) {
                   for (CatalogTexture texture : category.getTextures()) {
                     if (!texture.isModifiable()) {
-                      texturesCatalog.delete(texture);
+                      defaultTextures.add(texture);
                     }
                   }
                 }
+                texturesCatalog.deleteAll(defaultTextures);
               }
             });
 
@@ -654,13 +657,12 @@ public class FileUserPreferences extends UserPreferences {
           final TexturesCatalog resourceTexturesCatalog =
               readTexturesCatalogFromResource(getTexturesLibrariesPluginFolders());
           for (final TexturesCategory category : resourceTexturesCatalog.getCategories()) {
-            for (final CatalogTexture texture : category.getTextures()) {
-              updater.execute(new Runnable() {
-                  public void run() {
-                    texturesCatalog.add(category, texture);
-                  }
-                });
-            }
+            // Add the textures of each category in one task rather than one task per texture
+            updater.execute(new Runnable() {
+                public void run() {
+                  texturesCatalog.addAll(category, category.getTextures());
+                }
+              });
           }
           if (resourceTexturesCatalog instanceof DefaultTexturesCatalog) {
             updater.execute(new Runnable() {
@@ -934,7 +936,9 @@ public class FileUserPreferences extends UserPreferences {
    */
   @Override
   public void write() throws RecorderException {
-    Preferences preferences = getPreferences();
+    // Write through preferences that ignore unchanged values to avoid rewriting
+    // all the keys of the modifiable catalogs in the backing store
+    Preferences preferences = new ChangedValuesPreferences(getPreferences());
     writeModifiableFurnitureCatalog(preferences);
     writeRecentAndModifiableTexturesCatalog(preferences);
 
@@ -1705,6 +1709,82 @@ public class FileUserPreferences extends UserPreferences {
   }
 
 
+  /**
+   * Preferences that delegate their storage to other preferences, but put or remove
+   * only the values that are different from the ones stored in the delegate,
+   * and flush the delegate only if one of its values was changed.
+   */
+  private static class ChangedValuesPreferences extends AbstractPreferences {
+    private final Preferences preferences;
+    private boolean           modified;
+
+    private ChangedValuesPreferences(Preferences preferences) {
+      this(null, "", preferences);
+    }
+
+    private ChangedValuesPreferences(ChangedValuesPreferences parent, String name, Preferences preferences) {
+      super(parent, name);
+      this.preferences = preferences;
+    }
+
+    @Override
+    protected void syncSpi() throws BackingStoreException {
+      this.preferences.sync();
+    }
+
+    @Override
+    protected void removeSpi(String key) {
+      if (this.preferences.get(key, null) != null) {
+        this.preferences.remove(key);
+        this.modified = true;
+      }
+    }
+
+    @Override
+    protected void putSpi(String key, String value) {
+      if (!value.equals(this.preferences.get(key, null))) {
+        this.preferences.put(key, value);
+        this.modified = true;
+      }
+    }
+
+    @Override
+    protected String [] keysSpi() throws BackingStoreException {
+      return this.preferences.keys();
+    }
+
+    @Override
+    protected String getSpi(String key) {
+      return this.preferences.get(key, null);
+    }
+
+    @Override
+    protected void flushSpi() throws BackingStoreException {
+      if (this.modified) {
+        this.preferences.flush();
+        this.modified = false;
+      }
+    }
+
+    @Override
+    protected void removeNodeSpi() throws BackingStoreException {
+      this.preferences.removeNode();
+      this.modified = true;
+      // Flush parent delegate to store the removal of this node
+      ((ChangedValuesPreferences)parent()).modified = true;
+    }
+
+    @Override
+    protected String [] childrenNamesSpi() throws BackingStoreException {
+      return this.preferences.childrenNames();
+    }
+
+    @Override
+    protected AbstractPreferences childSpi(String name) {
+      return new ChangedValuesPreferences(this, name, this.preferences.node(name));
+    }
+  }
+
   /**
    * Preferences based on the <code>preferences.xml</code> file
    * stored in a preferences folder.
@@ -0,0 +1,1049 @@
+/*
+ * GLBWriter.java 19 oct. 2026
+ *
+ * Sweet Home 3D, Copyright (c) 2026 Emmanuel PUYBARET / eTeks <info@eteks.com>
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+package com.eteks.sweethome3d.j3d;
+
+import java.awt.image.RenderedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+import javax.media.j3d.Appearance;
+import javax.media.j3d.ColoringAttributes;
+import javax.media.j3d.Geometry;
+import javax.media.j3d.GeometryArray;
+import javax.media.j3d.GeometryStripArray;
+import javax.media.j3d.Group;
+import javax.media.j3d.ImageComponent2D;
+import javax.media.j3d.IndexedGeometryArray;
+import javax.media.j3d.IndexedGeometryStripArray;
+import javax.media.j3d.IndexedLineArray;
+import javax.media.j3d.IndexedLineStripArray;
+import javax.media.j3d.IndexedQuadArray;
+import javax.media.j3d.IndexedTriangleArray;
+import javax.media.j3d.IndexedTriangleFanArray;
+import javax.media.j3d.IndexedTriangleStripArray;
+import javax.media.j3d.LineArray;
+import javax.media.j3d.LineStripArray;
+import javax.media.j3d.Link;
+import javax.media.j3d.Material;
+import javax.media.j3d.Node;
+import javax.media.j3d.PolygonAttributes;
+import javax.media.j3d.QuadArray;
+import javax.media.j3d.RenderingAttributes;
+import javax.media.j3d.Shape3D;
+import javax.media.j3d.TexCoordGeneration;
+import javax.media.j3d.Texture;
+import javax.media.j3d.TextureAttributes;
+import javax.media.j3d.Transform3D;
+import javax.media.j3d.TransformGroup;
+import javax.media.j3d.TransparencyAttributes;
+import javax.media.j3d.TriangleArray;
+import javax.media.j3d.TriangleFanArray;
+import javax.media.j3d.TriangleStripArray;
+import javax.vecmath.Color3f;
+import javax.vecmath.Point3f;
+import javax.vecmath.Vector3f;
+import javax.vecmath.Vector4f;
+
+/**
+ * A writer able to export Java 3D nodes at binary glTF 2.0 format (GLB).
+ * Shapes which share the same geometries and appearance, like the pieces of furniture
+ * created from the same model, are written once as a glTF mesh referenced by as many nodes
+ * as needed, and each texture image is embedded only once. Binary data is stored in a
+ * temporary file until the writer is closed.
+ * @author Emmanuel Puybaret
+ */
+public class GLBWriter {
+  private static final int GLB_MAGIC        = 0x46546C67; // glTF
+  private static final int GLB_VERSION      = 2;
+  private static final int JSON_CHUNK_TYPE  = 0x4E4F534A; // JSON
+  private static final int BIN_CHUNK_TYPE   = 0x004E4942; // BIN
+
+  private static final int UNSIGNED_SHORT   = 5123;
+  private static final int UNSIGNED_INT     = 5125;
+  private static final int FLOAT            = 5126;
+  private static final int ARRAY_BUFFER         = 34962;
+  private static final int ELEMENT_ARRAY_BUFFER = 34963;
+  private static final int LINES            = 1;
+  private static final int TRIANGLES        = 4;
+
+  private final OutputStream  out;
+  private final String        header;
+  private final File          binaryFile;
+  private final FileChannel   binaryChannel;
+  private long                binaryLength;
+
+  private final List<String>  nodes = new ArrayList<String>();
+  private final List<Integer> sceneNodes = new ArrayList<Integer>();
+  private final List<String>  meshes = new ArrayList<String>();
+  private final List<String>  materials = new ArrayList<String>();
+  private final List<String>  textures = new ArrayList<String>();
+  private final List<String>  accessors = new ArrayList<String>();
+  private final List<String>  bufferViews = new ArrayList<String>();
+
+  private final Map<List<Object>, Integer> meshIndices = new HashMap<List<Object>, Integer>();
+  private final Map<List<Object>, String>  primitives = new HashMap<List<Object>, String>();
+  private final Map<List<Object>, Integer> materialIndices = new HashMap<List<Object>, Integer>();
+  private final Map<Object, Integer>       textureIndices = new HashMap<Object, Integer>();
+
+  private int shapeIndex = 1;
+
+  /**
+   * Create a GLB writer for the given file.
+   * @param glbFile the file into which 3D nodes will be written at GLB format
+   * @param header  a header written in the generator of the glTF asset
+   */
+  public GLBWriter(File glbFile, String header) throws FileNotFoundException, IOException {
+    this(new FileOutputStream(glbFile), header);
+  }
+
+  /**
+   * Create a GLB writer for the given file name.
+   * @param glbFileName the name of the file into which 3D nodes will be written at GLB format
+   * @param header  a header written in the generator of the glTF asset
+   */
+  public GLBWriter(String glbFileName, String header) throws FileNotFoundException, IOException {
+    this(new FileOutputStream(glbFileName), header);
+  }
+
+  /**
+   * Create a GLB writer that will writes in <code>out</code> stream.
+   * @param out the stream into which 3D nodes will be written at GLB format
+   * @param header  a header written in the generator of the glTF asset
+   */
+  public GLBWriter(OutputStream out, String header) throws IOException {
+    this.out = out;
+    this.header = header;
+    this.binaryFile = File.createTempFile("glb", ".bin");
+    this.binaryChannel = new RandomAccessFile(this.binaryFile, "rw").getChannel();
+  }
+
+  /**
+   * Throws an <code>InterruptedIOException</code> exception
+   * if current thread is interrupted.
+   */
+  private void checkCurrentThreadIsntInterrupted() throws InterruptedIOException {
+    if (Thread.interrupted()) {
+      throw new InterruptedIOException("Current thread interrupted");
+    }
+  }
+
+  /**
+   * Writes all the 3D shapes children of <code>node</code> at GLB format.
+   * @param node a Java 3D node
+   * @throws IOException if the operation failed
+   * @throws InterruptedIOException if the current thread was interrupted during this operation.
+   *         The interrupted status of the current thread is cleared when this exception is thrown.
+   * @see #writeNode(Node, String)
+   */
+  public void writeNode(Node node) throws IOException, InterruptedIOException {
+    writeNode(node, null);
+  }
+
+  /**
+   * Writes all the 3D shapes children of <code>node</code> at GLB format.
+   * If there are transformation groups on the path from <code>node</code> to its shapes,
+   * they'll be combined in the matrix of the glTF node matching each shape.
+   * The <code>node</code> shouldn't be alive or if it's alive, it should have the
+   * capabilities to read its children, the geometries and the appearance of its shapes.
+   * Only geometries which are instances of <code>GeometryArray</code> will be written.
+   * @param node     a Java 3D node
+   * @param nodeName the name of the node. This is useful to distinguish the objects
+   *                 names in output. If this name is <code>null</code> or isn't built
+   *                 with A-Z, a-z, 0-9 and underscores, it will be ignored.
+   * @throws IOException if the operation failed
+   * @throws InterruptedIOException if the current thread was interrupted during this operation
+   *         The interrupted status of the current thread is cleared when this exception is thrown.
+   */
+  public void writeNode(Node node, String nodeName) throws IOException, InterruptedIOException {
+    List<Integer> children = new ArrayList<Integer>();
+    writeNode(node, nodeName, new Transform3D(), children);
+    if (!children.isEmpty()) {
+      StringBuilder json = new StringBuilder("{");
+      if (accept(nodeName)) {
+        json.append("\"name\":");
+        appendString(json, nodeName).append(',');
+      }
+      json.append("\"children\":").append(toJSONArray(children)).append('}');
+      this.nodes.add(json.toString());
+      this.sceneNodes.add(this.nodes.size() - 1);
+    }
+  }
+
+  /**
+   * Writes all the 3D shapes children of <code>node</code> at GLB format
+   * and adds the index of their glTF node to <code>children</code>.
+   */
+  private void writeNode(Node node, String nodeName, Transform3D parentTransformations,
+                         List<Integer> children) throws IOException {
+    if (node instanceof Group) {
+      if (node instanceof TransformGroup) {
+        parentTransformations = new Transform3D(parentTransformations);
+        Transform3D transform = new Transform3D();
+        ((TransformGroup)node).getTransform(transform);
+        parentTransformations.mul(transform);
+      }
+      // Write all children
+      Enumeration<?> enumeration = ((Group)node).getAllChildren();
+      while (enumeration.hasMoreElements()) {
+        writeNode((Node)enumeration.nextElement(), nodeName, parentTransformations, children);
+      }
+    } else if (node instanceof Link) {
+      writeNode(((Link)node).getSharedGroup(), nodeName, parentTransformations, children);
+    } else if (node instanceof Shape3D) {
+      Shape3D shape = (Shape3D)node;
+      Appearance appearance = shape.getAppearance();
+      RenderingAttributes renderingAttributes = appearance != null
+          ? appearance.getRenderingAttributes() : null;
+      if (shape.numGeometries() >= 1
+          && (renderingAttributes == null
+              || renderingAttributes.getVisible())) {
+        checkCurrentThreadIsntInterrupted();
+
+        // Build a unique human readable object name
+        String objectName = "";
+        if (accept(nodeName)) {
+          objectName = nodeName + "_";
+        }
+        if (shape.getUserData() instanceof String
+            && accept((String)shape.getUserData())) {
+          objectName += (String)shape.getUserData() + "_";
+        }
+        objectName += String.valueOf(this.shapeIndex++);
+
+        TexCoordGeneration texCoordGeneration = null;
+        Transform3D textureTransform = new Transform3D();
+        int cullFace = PolygonAttributes.CULL_BACK;
+        if (appearance != null) {
+          texCoordGeneration = appearance.getTexCoordGeneration();
+          TextureAttributes textureAttributes = appearance.getTextureAttributes();
+          if (textureAttributes != null) {
+            textureAttributes.getTextureTransform(textureTransform);
+          }
+          PolygonAttributes polygonAttributes = appearance.getPolygonAttributes();
+          if (polygonAttributes != null) {
+            cullFace = polygonAttributes.getCullFace();
+          }
+        }
+        // glTF viewers reverse front faces of nodes with a mirroring transformation
+        boolean reversedTriangles = (cullFace == PolygonAttributes.CULL_FRONT)
+            != (parentTransformations.determinant() < 0);
+        int materialIndex = appearance != null
+            ? getMaterialIndex(appearance, cullFace)
+            : -1;
+
+        // Search if the same mesh was already written
+        List<Object> meshKey = new ArrayList<Object>();
+        for (int i = 0, n = shape.numGeometries(); i < n; i++) {
+          meshKey.add(shape.getGeometry(i));
+        }
+        meshKey.add(materialIndex);
+        meshKey.add(texCoordGeneration);
+        meshKey.add(textureTransform);
+        meshKey.add(reversedTriangles);
+        Integer meshIndex = this.meshIndices.get(meshKey);
+        if (meshIndex == null) {
+          StringBuilder meshPrimitives = new StringBuilder();
+          for (int i = 0, n = shape.numGeometries(); i < n; i++) {
+            String primitive = getPrimitive(shape.getGeometry(i), texCoordGeneration,
+                textureTransform, reversedTriangles);
+            if (primitive != null) {
+              if (meshPrimitives.length() > 0) {
+                meshPrimitives.append(',');
+              }
+              meshPrimitives.append('{').append(primitive);
+              if (materialIndex >= 0) {
+                meshPrimitives.append(",\"material\":").append(materialIndex);
+              }
+              meshPrimitives.append('}');
+            }
+          }
+          if (meshPrimitives.length() > 0) {
+            this.meshes.add("{\"primitives\":[" + meshPrimitives + "]}");
+            meshIndex = this.meshes.size() - 1;
+          } else {
+            meshIndex = -1;
+          }
+          this.meshIndices.put(meshKey, meshIndex);
+        }
+
+        if (meshIndex >= 0) {
+          StringBuilder json = new StringBuilder("{\"name\":");
+          appendString(json, objectName).append(",\"mesh\":").append(meshIndex);
+          if (parentTransformations.getBestType() != Transform3D.IDENTITY) {
+            // Write matrix in column-major order
+            float [] matrix = new float [16];
+            parentTransformations.get(matrix);
+            json.append(",\"matrix\":[");
+            for (int i = 0; i < 16; i++) {
+              if (i > 0) {
+                json.append(',');
+              }
+              json.append(matrix [(i % 4) * 4 + i / 4]);
+            }
+            json.append(']');
+          }
+          json.append('}');
+          this.nodes.add(json.toString());
+          children.add(this.nodes.size() - 1);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns <code>true</code> if <code>name</code> contains
+   * only letters, digits and underscores.
+   */
+  private boolean accept(String name) {
+    if (name == null) {
+      return false;
+    }
+    for (int i = 0; i < name.length(); i++) {
+      char car = name.charAt(i);
+      if (!(car >= 'a' && car <= 'z'
+            || car >= 'A' && car <= 'Z'
+            || car >= '0' && car <= '9'
+            || car == '_')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the glTF material matching <code>appearance</code>,
+   * after writing it if it doesn't exist yet.
+   */
+  private int getMaterialIndex(Appearance appearance, int cullFace) throws IOException {
+    Color3f color = new Color3f(1, 1, 1);
+    float shininess = 1;
+    Material material = appearance.getMaterial();
+    if (material != null) {
+      material.getDiffuseColor(color);
+      shininess = material.getShininess();
+    } else {
+      ColoringAttributes coloringAttributes = appearance.getColoringAttributes();
+      if (coloringAttributes != null) {
+        coloringAttributes.getColor(color);
+      }
+    }
+    float alpha = 1;
+    TransparencyAttributes transparencyAttributes = appearance.getTransparencyAttributes();
+    if (transparencyAttributes != null
+        && transparencyAttributes.getTransparencyMode() != TransparencyAttributes.NONE) {
+      alpha = 1 - transparencyAttributes.getTransparency();
+    }
+    Texture texture = appearance.getTexture();
+    int textureIndex = texture != null
+        ? getTextureIndex(texture)
+        : -1;
+    boolean doubleSided = cullFace == PolygonAttributes.CULL_NONE;
+
+    List<Object> materialKey = Arrays.<Object>asList(color.x, color.y, color.z, alpha,
+        shininess, textureIndex, doubleSided);
+    Integer materialIndex = this.materialIndices.get(materialKey);
+    if (materialIndex == null) {
+      // Convert Java 3D shininess between 1 and 128 to a roughness between 1 and 0
+      float roughness = Math.max(0, Math.min(1, 1 - (shininess - 1) / 127));
+      StringBuilder json = new StringBuilder("{\"pbrMetallicRoughness\":{\"baseColorFactor\":[");
+      json.append(color.x).append(',').append(color.y).append(',').append(color.z).append(',').append(alpha).append(']');
+      if (textureIndex >= 0) {
+        json.append(",\"baseColorTexture\":{\"index\":").append(textureIndex).append('}');
+      }
+      json.append(",\"metallicFactor\":0,\"roughnessFactor\":").append(roughness).append('}');
+      if (alpha < 1) {
+        json.append(",\"alphaMode\":\"BLEND\"");
+      }
+      if (doubleSided) {
+        json.append(",\"doubleSided\":true");
+      }
+      json.append('}');
+      this.materials.add(json.toString());
+      materialIndex = this.materials.size() - 1;
+      this.materialIndices.put(materialKey, materialIndex);
+    }
+    return materialIndex;
+  }
+
+  /**
+   * Returns the index of the glTF texture matching <code>texture</code>,
+   * after embedding its image if it wasn't written yet.
+   */
+  private int getTextureIndex(Texture texture) throws IOException {
+    // Textures loaded from the same URL are embedded only once
+    Object textureKey = texture.getUserData() instanceof URL
+        ? texture.getUserData().toString()
+        : texture;
+    Integer textureIndex = this.textureIndices.get(textureKey);
+    if (textureIndex == null) {
+      byte [] imageData = null;
+      if (texture.getUserData() instanceof URL) {
+        InputStream in = null;
+        try {
+          in = ((URL)texture.getUserData()).openStream();
+          ByteArrayOutputStream imageOut = new ByteArrayOutputStream();
+          byte [] buffer = new byte [8192];
+          int size;
+          while ((size = in.read(buffer)) != -1) {
+            imageOut.write(buffer, 0, size);
+          }
+          imageData = imageOut.toByteArray();
+        } catch (IOException ex) {
+          // Use texture image instead
+        } finally {
+          if (in != null) {
+            in.close();
+          }
+        }
+      }
+
+      String mimeType;
+      if (imageData != null && isPNGImage(imageData)) {
+        mimeType = "image/png";
+      } else if (imageData != null && isJPEGImage(imageData)) {
+        mimeType = "image/jpeg";
+      } else {
+        // Convert other image formats to PNG which is supported by glTF
+        RenderedImage image = imageData != null
+            ? ImageIO.read(new ByteArrayInputStream(imageData))
+            : null;
+        if (image == null) {
+          image = ((ImageComponent2D)texture.getImage(0)).getRenderedImage();
+        }
+        ByteArrayOutputStream imageOut = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", imageOut);
+        imageData = imageOut.toByteArray();
+        mimeType = "image/png";
+      }
+
+      int bufferViewIndex = writeBufferView(ByteBuffer.wrap(imageData), -1);
+      this.textures.add("{\"bufferView\":" + bufferViewIndex + ",\"mimeType\":\"" + mimeType + "\"}");
+      textureIndex = this.textures.size() - 1;
+      this.textureIndices.put(textureKey, textureIndex);
+    }
+    return textureIndex;
+  }
+
+  /**
+   * Returns <code>true</code> if the given data starts with PNG signature.
+   */
+  private boolean isPNGImage(byte [] imageData) {
+    return imageData.length > 8
+        && (imageData [0] & 0xFF) == 0x89
+        && imageData [1] == 'P'
+        && imageData [2] == 'N'
+        && imageData [3] == 'G';
+  }
+
+  /**
+   * Returns <code>true</code> if the given data starts with JPEG signature.
+   */
+  private boolean isJPEGImage(byte [] imageData) {
+    return imageData.length > 3
+        && (imageData [0] & 0xFF) == 0xFF
+        && (imageData [1] & 0xFF) == 0xD8;
+  }
+
+  /**
+   * Returns the attributes, indices and mode of the glTF primitive matching <code>geometry</code>,
+   * after writing its data if it wasn't written yet, or <code>null</code> if the geometry is empty
+   * or isn't supported.
+   */
+  private String getPrimitive(Geometry geometry,
+                              TexCoordGeneration texCoordGeneration,
+                              Transform3D textureTransform,
+                              boolean reversedTriangles) throws IOException {
+    List<Object> primitiveKey = Arrays.<Object>asList(geometry, texCoordGeneration, textureTransform, reversedTriangles);
+    if (this.primitives.containsKey(primitiveKey)) {
+      return this.primitives.get(primitiveKey);
+    } else {
+      String primitive = null;
+      if (geometry instanceof GeometryArray) {
+        primitive = writeGeometryArray((GeometryArray)geometry, texCoordGeneration, textureTransform, reversedTriangles);
+      }
+      this.primitives.put(primitiveKey, primitive);
+      return primitive;
+    }
+  }
+
+  /**
+   * Writes the data of a 3D geometry and returns the matching glTF primitive.
+   */
+  private String writeGeometryArray(GeometryArray geometryArray,
+                                    TexCoordGeneration texCoordGeneration,
+                                    Transform3D textureTransform,
+                                    boolean reversedTriangles) throws IOException {
+    int vertexCount = geometryArray.getVertexCount();
+    int vertexFormat = geometryArray.getVertexFormat();
+    boolean lines = geometryArray instanceof IndexedLineArray
+        || geometryArray instanceof IndexedLineStripArray
+        || geometryArray instanceof LineArray
+        || geometryArray instanceof LineStripArray;
+    float [] coordinates = new float [vertexCount * 3];
+    float [] normals = (vertexFormat & GeometryArray.NORMALS) != 0
+        ? new float [vertexCount * 3]
+        : null;
+    float [] textureCoordinates = (vertexFormat & GeometryArray.TEXTURE_COORDINATE_2) != 0
+        ? new float [vertexCount * 2]
+        : null;
+
+    // Read vertices data
+    if ((vertexFormat & GeometryArray.BY_REFERENCE) != 0) {
+      if ((vertexFormat & GeometryArray.INTERLEAVED) != 0) {
+        float [] vertexData = geometryArray.getInterleavedVertices();
+        int vertexSize = vertexData.length / vertexCount;
+        for (int index = 0, i = 0; index < vertexCount; index++, i += vertexSize) {
+          System.arraycopy(vertexData, i + vertexSize - 3, coordinates, index * 3, 3);
+          if (normals != null) {
+            System.arraycopy(vertexData, i + vertexSize - 6, normals, index * 3, 3);
+          }
+          if (textureCoordinates != null) {
+            System.arraycopy(vertexData, i, textureCoordinates, index * 2, 2);
+          }
+        }
+      } else {
+        System.arraycopy(geometryArray.getCoordRefFloat(), 0, coordinates, 0, coordinates.length);
+        if (normals != null) {
+          System.arraycopy(geometryArray.getNormalRefFloat(), 0, normals, 0, normals.length);
+        }
+        if (textureCoordinates != null) {
+          System.arraycopy(geometryArray.getTexCoordRefFloat(0), 0, textureCoordinates, 0, textureCoordinates.length);
+        }
+      }
+    } else {
+      geometryArray.getCoordinates(0, coordinates);
+      if (normals != null) {
+        geometryArray.getNormals(0, normals);
+      }
+      if (textureCoordinates != null) {
+        geometryArray.getTextureCoordinates(0, 0, textureCoordinates);
+      }
+    }
+
+    if (normals != null) {
+      for (int i = 0; i < normals.length; i += 3) {
+        if (Float.isNaN(normals [i]) || Float.isNaN(normals [i + 1]) || Float.isNaN(normals [i + 2])) {
+          // Ignore normals if one of them is invalid
+          normals = null;
+          break;
+        } else if (normals [i] != 0 || normals [i + 1] != 0 || normals [i + 2] != 0) {
+          Vector3f normal = new Vector3f(normals [i], normals [i + 1], normals [i + 2]);
+          normal.normalize();
+          normals [i]     = normal.x;
+          normals [i + 1] = normal.y;
+          normals [i + 2] = normal.z;
+        }
+      }
+    }
+
+    if (texCoordGeneration != null) {
+      if (texCoordGeneration.getGenMode() == TexCoordGeneration.OBJECT_LINEAR
+          && texCoordGeneration.getEnable()
+          && !lines) {
+        Vector4f planeS = new Vector4f();
+        Vector4f planeT = new Vector4f();
+        texCoordGeneration.getPlaneS(planeS);
+        texCoordGeneration.getPlaneT(planeT);
+        textureCoordinates = new float [vertexCount * 2];
+        for (int i = 0, j = 0; i < coordinates.length; i += 3, j += 2) {
+          float x = coordinates [i];
+          float y = coordinates [i + 1];
+          float z = coordinates [i + 2];
+          textureCoordinates [j]     = x * planeS.x + y * planeS.y + z * planeS.z + planeS.w;
+          textureCoordinates [j + 1] = x * planeT.x + y * planeT.y + z * planeT.z + planeT.w;
+        }
+      } else {
+        textureCoordinates = null;
+      }
+    }
+    if (textureCoordinates != null) {
+      boolean transformed = textureTransform.getBestType() != Transform3D.IDENTITY;
+      Point3f point = new Point3f();
+      for (int i = 0; i < textureCoordinates.length; i += 2) {
+        if (transformed) {
+          point.set(textureCoordinates [i], textureCoordinates [i + 1], 0);
+          textureTransform.transform(point);
+          textureCoordinates [i] = point.x;
+          textureCoordinates [i + 1] = point.y;
+        }
+        // glTF texture coordinates origin is at the top left corner of images
+        textureCoordinates [i + 1] = 1 - textureCoordinates [i + 1];
+      }
+    }
+
+    checkCurrentThreadIsntInterrupted();
+
+    int [] corners = getPrimitiveCorners(geometryArray, reversedTriangles);
+    if (corners.length == 0) {
+      return null;
+    }
+
+    int [] indices = new int [corners.length];
+    if (geometryArray instanceof IndexedGeometryArray
+        && (vertexFormat & GeometryArray.USE_COORD_INDEX_ONLY) == 0
+        && (normals != null || textureCoordinates != null)) {
+      // Build a new vertex for each different combination of coordinates, normal and texture coordinates indices
+      IndexedGeometryArray indexedGeometryArray = (IndexedGeometryArray)geometryArray;
+      boolean textureCoordinatesGenerated = texCoordGeneration != null;
+      Map<VertexIndices, Integer> vertices = new HashMap<VertexIndices, Integer>();
+      float [] vertexCoordinates = new float [corners.length * 3];
+      float [] vertexNormals = normals != null ? new float [corners.length * 3] : null;
+      float [] vertexTextureCoordinates = textureCoordinates != null ? new float [corners.length * 2] : null;
+      for (int i = 0; i < corners.length; i++) {
+        int coordinateIndex = indexedGeometryArray.getCoordinateIndex(corners [i]);
+        int normalIndex = normals != null
+            ? indexedGeometryArray.getNormalIndex(corners [i])
+            : -1;
+        int textureCoordinatesIndex = textureCoordinates == null
+            ? -1
+            : (textureCoordinatesGenerated
+                  ? coordinateIndex
+                  : indexedGeometryArray.getTextureCoordinateIndex(0, corners [i]));
+        VertexIndices vertexIndices = new VertexIndices(coordinateIndex, normalIndex, textureCoordinatesIndex);
+        Integer vertexIndex = vertices.get(vertexIndices);
+        if (vertexIndex == null) {
+          vertexIndex = vertices.size();
+          System.arraycopy(coordinates, coordinateIndex * 3, vertexCoordinates, vertexIndex * 3, 3);
+          if (vertexNormals != null) {
+            System.arraycopy(normals, normalIndex * 3, vertexNormals, vertexIndex * 3, 3);
+          }
+          if (vertexTextureCoordinates != null) {
+            System.arraycopy(textureCoordinates, textureCoordinatesIndex * 2, vertexTextureCoordinates, vertexIndex * 2, 2);
+          }
+          vertices.put(vertexIndices, vertexIndex);
+        }
+        indices [i] = vertexIndex;
+      }
+      vertexCount = vertices.size();
+      coordinates = truncate(vertexCoordinates, vertexCount * 3);
+      normals = vertexNormals != null ? truncate(vertexNormals, vertexCount * 3) : null;
+      textureCoordinates = vertexTextureCoordinates != null ? truncate(vertexTextureCoordinates, vertexCount * 2) : null;
+    } else if (geometryArray instanceof IndexedGeometryArray) {
+      IndexedGeometryArray indexedGeometryArray = (IndexedGeometryArray)geometryArray;
+      for (int i = 0; i < corners.length; i++) {
+        indices [i] = indexedGeometryArray.getCoordinateIndex(corners [i]);
+      }
+    } else {
+      indices = corners;
+    }
+
+    StringBuilder primitive = new StringBuilder("\"attributes\":{\"POSITION\":");
+    primitive.append(writeAccessor(coordinates, 3, true));
+    if (normals != null) {
+      primitive.append(",\"NORMAL\":").append(writeAccessor(normals, 3, false));
+    }
+    if (textureCoordinates != null) {
+      primitive.append(",\"TEXCOORD_0\":").append(writeAccessor(textureCoordinates, 2, false));
+    }
+    primitive.append("},\"indices\":").append(writeIndicesAccessor(indices, vertexCount));
+    primitive.append(",\"mode\":").append(lines ? LINES : TRIANGLES);
+    return primitive.toString();
+  }
+
+  /**
+   * Returns the first <code>length</code> elements of <code>array</code>.
+   */
+  private static float [] truncate(float [] array, int length) {
+    if (array.length == length) {
+      return array;
+    } else {
+      float [] truncatedArray = new float [length];
+      System.arraycopy(array, 0, truncatedArray, 0, length);
+      return truncatedArray;
+    }
+  }
+
+  /**
+   * Returns the indices of the vertices of the lines or the triangles of a geometry array,
+   * in the index arrays of indexed geometries, or in vertices otherwise.
+   */
+  private int [] getPrimitiveCorners(GeometryArray geometryArray, boolean reversedTriangles) {
+    Corners corners = new Corners(reversedTriangles);
+    if (geometryArray instanceof IndexedGeometryArray) {
+      if (geometryArray instanceof IndexedLineArray) {
+        for (int i = 0, n = ((IndexedLineArray)geometryArray).getIndexCount() - 1; i < n; i += 2) {
+          corners.addLine(i, i + 1);
+        }
+      } else if (geometryArray instanceof IndexedTriangleArray) {
+        for (int i = 0, n = ((IndexedTriangleArray)geometryArray).getIndexCount() - 2; i < n; i += 3) {
+          corners.addTriangle(i, i + 1, i + 2);
+        }
+      } else if (geometryArray instanceof IndexedQuadArray) {
+        for (int i = 0, n = ((IndexedQuadArray)geometryArray).getIndexCount() - 3; i < n; i += 4) {
+          corners.addTriangle(i, i + 1, i + 2);
+          corners.addTriangle(i, i + 2, i + 3);
+        }
+      } else if (geometryArray instanceof IndexedGeometryStripArray) {
+        IndexedGeometryStripArray geometryStripArray = (IndexedGeometryStripArray)geometryArray;
+        int [] stripIndexCounts = new int [geometryStripArray.getNumStrips()];
+        geometryStripArray.getStripIndexCounts(stripIndexCounts);
+        addStripCorners(geometryStripArray instanceof IndexedLineStripArray,
+            geometryStripArray instanceof IndexedTriangleStripArray,
+            geometryStripArray instanceof IndexedTriangleFanArray, stripIndexCounts, corners);
+      }
+    } else {
+      if (geometryArray instanceof LineArray) {
+        for (int i = 0, n = geometryArray.getVertexCount() - 1; i < n; i += 2) {
+          corners.addLine(i, i + 1);
+        }
+      } else if (geometryArray instanceof TriangleArray) {
+        for (int i = 0, n = geometryArray.getVertexCount() - 2; i < n; i += 3) {
+          corners.addTriangle(i, i + 1, i + 2);
+        }
+      } else if (geometryArray instanceof QuadArray) {
+        for (int i = 0, n = geometryArray.getVertexCount() - 3; i < n; i += 4) {
+          corners.addTriangle(i, i + 1, i + 2);
+          corners.addTriangle(i, i + 2, i + 3);
+        }
+      } else if (geometryArray instanceof GeometryStripArray) {
+        GeometryStripArray geometryStripArray = (GeometryStripArray)geometryArray;
+        int [] stripVertexCounts = new int [geometryStripArray.getNumStrips()];
+        geometryStripArray.getStripVertexCounts(stripVertexCounts);
+        addStripCorners(geometryStripArray instanceof LineStripArray,
+            geometryStripArray instanceof TriangleStripArray,
+            geometryStripArray instanceof TriangleFanArray, stripVertexCounts, corners);
+      }
+    }
+    return corners.toArray();
+  }
+
+  /**
+   * Adds to <code>corners</code> the vertices of the lines or triangles of the given strips.
+   */
+  private void addStripCorners(boolean lineStrip, boolean triangleStrip, boolean triangleFan,
+                               int [] stripCounts, Corners corners) {
+    int initialIndex = 0;
+    for (int strip = 0; strip < stripCounts.length; strip++) {
+      if (lineStrip) {
+        for (int i = initialIndex, n = initialIndex + stripCounts [strip] - 1; i < n; i++) {
+          corners.addLine(i, i + 1);
+        }
+      } else if (triangleStrip) {
+        for (int i = initialIndex, n = initialIndex + stripCounts [strip] - 2, j = 0; i < n; i++, j++) {
+          if (j % 2 == 0) {
+            corners.addTriangle(i, i + 1, i + 2);
+          } else { // Vertices of odd triangles are in reverse order
+            corners.addTriangle(i, i + 2, i + 1);
+          }
+        }
+      } else if (triangleFan) {
+        for (int i = initialIndex, n = initialIndex + stripCounts [strip] - 2; i < n; i++) {
+          corners.addTriangle(initialIndex, i + 1, i + 2);
+        }
+      }
+      initialIndex += stripCounts [strip];
+    }
+  }
+
+  /**
+   * Writes the given values in a new buffer view and returns the index of their accessor.
+   */
+  private int writeAccessor(float [] values, int componentCount, boolean bounds) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.asFloatBuffer().put(values);
+    int bufferViewIndex = writeBufferView(buffer, ARRAY_BUFFER);
+    StringBuilder json = new StringBuilder("{\"bufferView\":");
+    json.append(bufferViewIndex).append(",\"componentType\":").append(FLOAT)
+        .append(",\"count\":").append(values.length / componentCount)
+        .append(",\"type\":\"VEC").append(componentCount).append('"');
+    if (bounds) {
+      // Minimum and maximum values are mandatory for positions
+      float [] min = new float [componentCount];
+      float [] max = new float [componentCount];
+      Arrays.fill(min, Float.POSITIVE_INFINITY);
+      Arrays.fill(max, Float.NEGATIVE_INFINITY);
+      for (int i = 0; i < values.length; i++) {
+        min [i % componentCount] = Math.min(min [i % componentCount], values [i]);
+        max [i % componentCount] = Math.max(max [i % componentCount], values [i]);
+      }
+      json.append(",\"min\":[");
+      appendNumbers(json, min).append("],\"max\":[");
+      appendNumbers(json, max).append(']');
+    }
+    json.append('}');
+    this.accessors.add(json.toString());
+    return this.accessors.size() - 1;
+  }
+
+  /**
+   * Writes the given indices in a new buffer view and returns the index of their accessor.
+   */
+  private int writeIndicesAccessor(int [] indices, int vertexCount) throws IOException {
+    ByteBuffer buffer;
+    int componentType;
+    if (vertexCount <= 0xFFFF) {
+      buffer = ByteBuffer.allocate(indices.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+      for (int index : indices) {
+        buffer.putShort((short)index);
+      }
+      buffer.flip();
+      componentType = UNSIGNED_SHORT;
+    } else {
+      buffer = ByteBuffer.allocate(indices.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.asIntBuffer().put(indices);
+      componentType = UNSIGNED_INT;
+    }
+    int bufferViewIndex = writeBufferView(buffer, ELEMENT_ARRAY_BUFFER);
+    this.accessors.add("{\"bufferView\":" + bufferViewIndex + ",\"componentType\":" + componentType
+        + ",\"count\":" + indices.length + ",\"type\":\"SCALAR\"}");
+    return this.accessors.size() - 1;
+  }
+
+  /**
+   * Writes the remaining bytes of <code>buffer</code> in binary data
+   * and returns the index of their buffer view.
+   */
+  private int writeBufferView(ByteBuffer buffer, int target) throws IOException {
+    long offset = this.binaryLength;
+    int length = buffer.remaining();
+    while (buffer.hasRemaining()) {
+      this.binaryChannel.write(buffer);
+    }
+    // Keep next buffer views aligned on 4 bytes
+    ByteBuffer padding = ByteBuffer.allocate((4 - length % 4) % 4);
+    while (padding.hasRemaining()) {
+      this.binaryChannel.write(padding);
+    }
+    this.binaryLength += length + padding.capacity();
+    this.bufferViews.add("{\"buffer\":0,\"byteOffset\":" + offset + ",\"byteLength\":" + length
+        + (target > 0 ? ",\"target\":" + target : "") + "}");
+    return this.bufferViews.size() - 1;
+  }
+
+  /**
+   * Appends the given numbers separated by commas to <code>json</code>.
+   */
+  private static StringBuilder appendNumbers(StringBuilder json, float [] numbers) {
+    for (int i = 0; i < numbers.length; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append(numbers [i]);
+    }
+    return json;
+  }
+
+  /**
+   * Appends <code>text</code> to <code>json</code> as a string.
+   */
+  private static StringBuilder appendString(StringBuilder json, String text) {
+    json.append('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"' || c == '\\') {
+        json.append('\\').append(c);
+      } else if (c < 0x20) {
+        json.append(String.format("\\u%04x", (int)c));
+      } else {
+        json.append(c);
+      }
+    }
+    return json.append('"');
+  }
+
+  /**
+   * Returns the given items as a JSON array.
+   */
+  private static String toJSONArray(List<?> items) {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < items.size(); i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append(items.get(i));
+    }
+    return json.append(']').toString();
+  }
+
+  /**
+   * Writes the glTF document and its binary data in the output stream and closes it.
+   * @throws IOException if the operation failed
+   * @throws InterruptedIOException if the current thread was interrupted during this operation
+   *         The interrupted status of the current thread is cleared when this exception is thrown.
+   */
+  public void close() throws IOException, InterruptedIOException {
+    try {
+      checkCurrentThreadIsntInterrupted();
+
+      StringBuilder json = new StringBuilder("{\"asset\":{\"version\":\"2.0\"");
+      if (this.header != null && this.header.trim().length() > 0) {
+        json.append(",\"generator\":");
+        appendString(json, this.header.trim());
+      }
+      // Add a root node converting centimeters to meters
+      json.append("},\"scene\":0,\"scenes\":[{\"nodes\":[").append(this.nodes.size()).append("]}],\"nodes\":");
+      List<String> nodes = new ArrayList<String>(this.nodes);
+      nodes.add("{\"name\":\"home\",\"scale\":[0.01,0.01,0.01],\"children\":" + toJSONArray(this.sceneNodes) + "}");
+      json.append(toJSONArray(nodes));
+      if (!this.meshes.isEmpty()) {
+        json.append(",\"meshes\":").append(toJSONArray(this.meshes));
+      }
+      if (!this.materials.isEmpty()) {
+        json.append(",\"materials\":").append(toJSONArray(this.materials));
+      }
+      if (!this.textures.isEmpty()) {
+        json.append(",\"images\":").append(toJSONArray(this.textures));
+        List<String> textures = new ArrayList<String>(this.textures.size());
+        for (int i = 0; i < this.textures.size(); i++) {
+          textures.add("{\"source\":" + i + "}");
+        }
+        json.append(",\"textures\":").append(toJSONArray(textures));
+      }
+      if (!this.accessors.isEmpty()) {
+        json.append(",\"accessors\":").append(toJSONArray(this.accessors));
+      }
+      if (this.binaryLength > 0) {
+        json.append(",\"bufferViews\":").append(toJSONArray(this.bufferViews));
+        json.append(",\"buffers\":[{\"byteLength\":").append(this.binaryLength).append("}]");
+      }
+      json.append('}');
+
+      // Pad JSON chunk with spaces to keep binary chunk aligned on 4 bytes
+      byte [] jsonData = json.toString().getBytes("UTF-8");
+      int jsonChunkLength = (jsonData.length + 3) / 4 * 4;
+      long glbLength = 12 + 8 + jsonChunkLength
+          + (this.binaryLength > 0 ? 8 + this.binaryLength : 0);
+      if (glbLength > 0xFFFFFFFFL) {
+        throw new IOException("Exported data too large for GLB format");
+      }
+      ByteBuffer header = ByteBuffer.allocate(12 + 8 + jsonChunkLength + 8).order(ByteOrder.LITTLE_ENDIAN);
+      header.putInt(GLB_MAGIC).putInt(GLB_VERSION).putInt((int)glbLength);
+      header.putInt(jsonChunkLength).putInt(JSON_CHUNK_TYPE).put(jsonData);
+      for (int i = jsonData.length; i < jsonChunkLength; i++) {
+        header.put((byte)' ');
+      }
+      if (this.binaryLength > 0) {
+        header.putInt((int)this.binaryLength).putInt(BIN_CHUNK_TYPE);
+      }
+      header.flip();
+
+      WritableByteChannel outChannel = this.out instanceof FileOutputStream
+          ? ((FileOutputStream)this.out).getChannel()
+          : Channels.newChannel(this.out);
+      while (header.hasRemaining()) {
+        outChannel.write(header);
+      }
+      // Copy binary data from temporary file
+      for (long position = 0; position < this.binaryLength; ) {
+        position += this.binaryChannel.transferTo(position, this.binaryLength - position, outChannel);
+      }
+    } finally {
+      this.binaryChannel.close();
+      this.binaryFile.delete();
+      this.out.close();
+    }
+  }
+
+  /**
+   * Growable list of the vertices indices of lines and triangles.
+   */
+  private static class Corners {
+    private final boolean reversedTriangles;
+    private int []        indices = new int [96];
+    private int           size;
+
+    public Corners(boolean reversedTriangles) {
+      this.reversedTriangles = reversedTriangles;
+    }
+
+    public void addLine(int index1, int index2) {
+      add(index1);
+      add(index2);
+    }
+
+    public void addTriangle(int index1, int index2, int index3) {
+      add(index1);
+      if (this.reversedTriangles) {
+        add(index3);
+        add(index2);
+      } else {
+        add(index2);
+        add(index3);
+      }
+    }
+
+    private void add(int index) {
+      if (this.size == this.indices.length) {
+        int [] indices = new int [this.size * 2];
+        System.arraycopy(this.indices, 0, indices, 0, this.size);
+        this.indices = indices;
+      }
+      this.indices [this.size++] = index;
+    }
+
+    public int [] toArray() {
+      int [] indices = new int [this.size];
+      System.arraycopy(this.indices, 0, indices, 0, this.size);
+      return indices;
+    }
+  }
+
+  /**
+   * The coordinates, normal and texture coordinates indices of a vertex.
+   */
+  private static class VertexIndices {
+    private final int coordinateIndex;
+    private final int normalIndex;
+    private final int textureCoordinatesIndex;
+
+    public VertexIndices(int coordinateIndex, int normalIndex, int textureCoordinatesIndex) {
+      this.coordinateIndex = coordinateIndex;
+      this.normalIndex = normalIndex;
+      this.textureCoordinatesIndex = textureCoordinatesIndex;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof VertexIndices) {
+        VertexIndices vertexIndices = (VertexIndices)obj;
+        return this.coordinateIndex == vertexIndices.coordinateIndex
+            && this.normalIndex == vertexIndices.normalIndex
+            && this.textureCoordinatesIndex == vertexIndices.textureCoordinatesIndex;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return (this.coordinateIndex * 31 + this.normalIndex) * 31 + this.textureCoordinatesIndex;
+    }
+  }
+}
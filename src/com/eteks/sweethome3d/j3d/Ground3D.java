@@ -246,9 +246,10 @@ public class Ground3D extends Object3DBranch {
             });
     }
 
-    Area areaRemovedFromGround = new Area();
+    // Collect the areas removed from ground to merge them once all rooms are browsed
+    List<Area> areasRemovedFromGround = new ArrayList<Area>();
     if (backgroundImageRectangle != null) {
-      areaRemovedFromGround.add(new Area(backgroundImageRectangle));
+      areasRemovedFromGround.add(new Area(backgroundImageRectangle));
     }
     // Compute the union of the rooms, the underground walls and furniture areas
     Map<Level, LevelAreas> undergroundLevelAreas = new HashMap<Level, LevelAreas>();
@@ -265,7 +266,7 @@ public class Ground3D extends Object3DBranch {
           if (roomLevel == null
               || (roomLevel.getElevation() <= 0
                   && roomLevel.isViewableAndVisible())) {
-            areaRemovedFromGround.add(roomArea);
+            areasRemovedFromGround.add(roomArea);
             if (levelAreas != null) {
               levelAreas.getRoomArea().add(roomArea);
             }
@@ -277,6 +278,8 @@ public class Ground3D extends Object3DBranch {
       }
     }
 
+    Area areaRemovedFromGround = getUnionArea(areasRemovedFromGround);
+
     // Search all items at negative levels that could dig the ground
     updateUndergroundAreasDugByFurniture(undergroundLevelAreas, home.getFurniture());
 
@@ -392,6 +395,28 @@ public class Ground3D extends Object3DBranch {
     }
   }
 
+  /**
+   * Returns the union of the given <code>areas</code>, which may be modified by this method.
+   * Areas are merged two by two to keep intermediate areas as simple as possible when there are many rooms.
+   */
+  private Area getUnionArea(List<Area> areas) {
+    if (areas.isEmpty()) {
+      return new Area();
+    }
+    while (areas.size() > 1) {
+      List<Area> mergedAreas = new ArrayList<Area>((areas.size() + 1) / 2);
+      for (int i = 0; i < areas.size(); i += 2) {
+        Area area = areas.get(i);
+        if (i + 1 < areas.size()) {
+          area.add(areas.get(i + 1));
+        }
+        mergedAreas.add(area);
+      }
+      areas = mergedAreas;
+    }
+    return areas.get(0);
+  }
+
   /**
    * Returns the list of points that defines the given area.
    */
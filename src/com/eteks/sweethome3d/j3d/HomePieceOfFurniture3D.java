@@ -36,6 +36,7 @@ import javax.media.j3d.BoundingSphere;
 import javax.media.j3d.Bounds;
 import javax.media.j3d.BranchGroup;
 import javax.media.j3d.CapabilityNotSetException;
+import javax.media.j3d.DistanceLOD;
 import javax.media.j3d.Geometry;
 import javax.media.j3d.GeometryArray;
 import javax.media.j3d.Group;
@@ -46,6 +47,7 @@ import javax.media.j3d.PointLight;
 import javax.media.j3d.PolygonAttributes;
 import javax.media.j3d.RenderingAttributes;
 import javax.media.j3d.Shape3D;
+import javax.media.j3d.Switch;
 import javax.media.j3d.TexCoordGeneration;
 import javax.media.j3d.Texture;
 import javax.media.j3d.TextureAttributes;
@@ -90,8 +92,11 @@ public class HomePieceOfFurniture3D extends Object3DBranch {
       new PolygonAttributes(PolygonAttributes.POLYGON_FILL, PolygonAttributes.CULL_NONE, 0, true);
   private static final Bounds                 DEFAULT_INFLUENCING_BOUNDS = new BoundingSphere(new Point3d(), 1E7);
   private static final Object                 DEFAULT_BOX = new Object();
+  private static final float                  LEVEL_OF_DETAIL_DISTANCE_RATIO = 20;
 
   private final Home home;
+  private boolean    ignoreDrawingMode;
+  private boolean    modelLoadingDeferred;
 
   static {
     DEFAULT_TEXTURED_SHAPE_POLYGON_ATTRIBUTES.setCapability(PolygonAttributes.ALLOW_CULL_FACE_READ);
@@ -159,7 +164,23 @@ public class HomePieceOfFurniture3D extends Object3DBranch {
     // Set piece model initial location, orientation and size
     updatePieceOfFurnitureTransform();
 
-    // Load piece real 3D model
+    if (waitModelAndTextureLoadingEnd || isVisible()) {
+      loadPieceOfFurnitureModel(ignoreDrawingMode, waitModelAndTextureLoadingEnd);
+    } else {
+      // Don't load the model of a piece that isn't visible or at a hidden level,
+      // until it's displayed by a later update
+      this.ignoreDrawingMode = ignoreDrawingMode;
+      this.modelLoadingDeferred = true;
+      updatePieceOfFurnitureVisibility();
+    }
+  }
+
+  /**
+   * Loads the 3D model of the piece and replaces the temporary box of this branch by it.
+   */
+  private void loadPieceOfFurnitureModel(final boolean ignoreDrawingMode,
+                                         final boolean waitModelAndTextureLoadingEnd) {
+    final HomePieceOfFurniture piece = (HomePieceOfFurniture)getUserData();
     Content model = piece.getModel();
     ModelManager.getInstance().loadModel(model, waitModelAndTextureLoadingEnd,
         new ModelManager.ModelObserver() {
@@ -172,8 +193,31 @@ public class HomePieceOfFurniture3D extends Object3DBranch {
                 getNormalizedTransformGroup(modelRoot, modelRotation, 1, piece.isModelCenteredAtOrigin());
 
             cloneHomeTextures(modelRoot);
-            updatePieceOfFurnitureModelNode(modelRoot, modelTransformGroup,
+            Node modelNode = modelRoot;
+            DistanceLOD levelOfDetail = null;
+            Node simplifiedModelRoot = waitModelAndTextureLoadingEnd
+                ? null
+                : ModelManager.getInstance().getSimplifiedNode(modelRoot);
+            if (simplifiedModelRoot != null) {
+              // Display a simplified model of heavy pieces when they're far from the viewer
+              Switch modelSwitch = new Switch(0);
+              modelSwitch.setCapability(Switch.ALLOW_SWITCH_WRITE);
+              modelSwitch.addChild(modelRoot);
+              modelSwitch.addChild(simplifiedModelRoot);
+              levelOfDetail = new DistanceLOD(new float [] {LEVEL_OF_DETAIL_DISTANCE_RATIO});
+              levelOfDetail.addSwitch(modelSwitch);
+              levelOfDetail.setSchedulingBounds(DEFAULT_INFLUENCING_BOUNDS);
+              modelNode = modelSwitch;
+            }
+            updatePieceOfFurnitureModelNode(modelNode, modelTransformGroup,
                 ignoreDrawingMode, waitModelAndTextureLoadingEnd);
+            if (levelOfDetail != null) {
+              // Add level of detail behavior under the transform group scaled to piece size
+              // to switch to the simplified model at a distance proportional to piece size
+              BranchGroup levelOfDetailBranch = new BranchGroup();
+              levelOfDetailBranch.addChild(levelOfDetail);
+              ((TransformGroup)getChild(0)).addChild(levelOfDetailBranch);
+            }
           }
 
           public void modelError(Exception ex) {
@@ -213,6 +257,10 @@ public class HomePieceOfFurniture3D extends Object3DBranch {
   @Override
   public void update() {
     if (isVisible()) {
+      if (this.modelLoadingDeferred) {
+        this.modelLoadingDeferred = false;
+        loadPieceOfFurnitureModel(this.ignoreDrawingMode, false);
+      }
       updatePieceOfFurnitureModelTransformations();
       updatePieceOfFurnitureTransform();
       updatePieceOfFurnitureColorAndTexture(false);
@@ -56,6 +56,7 @@ import javax.media.j3d.Appearance;
 import javax.media.j3d.BoundingBox;
 import javax.media.j3d.Bounds;
 import javax.media.j3d.BranchGroup;
+import javax.media.j3d.CapabilityNotSetException;
 import javax.media.j3d.ColoringAttributes;
 import javax.media.j3d.Geometry;
 import javax.media.j3d.GeometryArray;
@@ -92,6 +93,7 @@ import javax.media.j3d.TriangleArray;
 import javax.media.j3d.TriangleFanArray;
 import javax.media.j3d.TriangleStripArray;
 import javax.vecmath.Color3f;
+import javax.vecmath.Color4f;
 import javax.vecmath.Matrix3f;
 import javax.vecmath.Point3d;
 import javax.vecmath.Point3f;
@@ -114,6 +116,7 @@ import com.sun.j3d.loaders.Loader;
 import com.sun.j3d.loaders.ParsingErrorException;
 import com.sun.j3d.loaders.Scene;
 import com.sun.j3d.loaders.lw3d.Lw3dLoader;
+import com.sun.j3d.utils.geometry.GeometryInfo;
 
 /**
  * Singleton managing 3D models cache.
@@ -204,6 +207,10 @@ public class ModelManager {
 
   private static final float    MINIMUM_SIZE = 0.001f;
 
+  private static final int      SIMPLIFIED_MODEL_MINIMUM_VERTEX_COUNT = 30000;
+  private static final int      SIMPLIFIED_GEOMETRY_MINIMUM_VERTEX_COUNT = 1000;
+  private static final int      SIMPLIFIED_GEOMETRY_GRID_SIZE = 32;
+
   private static final String   ADDITIONAL_LOADER_CLASSES = "com.eteks.sweethome3d.j3d.additionalLoaderClasses";
 
   private static ModelManager instance;
@@ -214,6 +221,8 @@ public class ModelManager {
   private Map<Content, List<ModelObserver>> loadingModelObservers;
   // Map storing the bounds of transformed model nodes
   private Map<Content, Map<Transform3D, BoundingBox>> transformedModelNodeBounds;
+  // Map storing the simplified geometries of models
+  private Map<Geometry, Geometry>   simplifiedGeometries;
   // Executor used to load models
   private ExecutorService           modelsLoader;
   // List of additional loader classes
@@ -224,6 +233,7 @@ public class ModelManager {
     this.loadedModelNodes = new WeakHashMap<Content, BranchGroup>();
     this.loadingModelObservers = new HashMap<Content, List<ModelObserver>>();
     this.transformedModelNodeBounds = new WeakHashMap<Content, Map<Transform3D, BoundingBox>>();
+    this.simplifiedGeometries = new WeakHashMap<Geometry, Geometry>();
     // Load other optional Loader classes
     List<Class<Loader>> loaderClasses = new ArrayList<Class<Loader>>();
     String loaderClassNames = System.getProperty(ADDITIONAL_LOADER_CLASSES);
@@ -289,6 +299,9 @@ public class ModelManager {
     synchronized (this.loadedModelNodes) {
       this.loadedModelNodes.clear();
     }
+    synchronized (this.simplifiedGeometries) {
+      this.simplifiedGeometries.clear();
+    }
     this.loadingModelObservers.clear();
   }
 
@@ -745,6 +758,7 @@ public class ModelManager {
     } else if (synchronous) {
       try {
         modelRoot = loadModel(content);
+        computeSimplifiedGeometries(modelRoot);
         synchronized (this.loadedModelNodes) {
           // Store in cache model node for future copies
           this.loadedModelNodes.put(content, (BranchGroup)modelRoot);
@@ -776,6 +790,7 @@ public class ModelManager {
           public void run() {
             try {
               final BranchGroup loadedModel = loadModel(content);
+              computeSimplifiedGeometries(loadedModel);
               synchronized (loadedModelNodes) {
                 // Update loaded models cache and notify registered observers
                 loadedModelNodes.put(content, loadedModel);
@@ -1975,6 +1990,310 @@ public class ModelManager {
     return count;
   }
 
+  /**
+   * Computes the simplified geometries of the given model if it contains many vertices.
+   * This method must be called once a model is loaded and before any of its clones is live,
+   * because reading the data of a live geometry requires capabilities which aren't set.
+   */
+  private void computeSimplifiedGeometries(Node modelRoot) {
+    if (getVertexCount(modelRoot) >= SIMPLIFIED_MODEL_MINIMUM_VERTEX_COUNT) {
+      computeSimplifiedGeometries(modelRoot, new HashSet<Geometry>());
+    }
+  }
+
+  private void computeSimplifiedGeometries(Node node, Set<Geometry> computedGeometries) {
+    if (node instanceof Group) {
+      Enumeration<?> enumeration = ((Group)node).getAllChildren();
+      while (enumeration.hasMoreElements()) {
+        computeSimplifiedGeometries((Node)enumeration.nextElement(), computedGeometries);
+      }
+    } else if (node instanceof Link) {
+      computeSimplifiedGeometries(((Link)node).getSharedGroup(), computedGeometries);
+    } else if (node instanceof Shape3D) {
+      Shape3D shape = (Shape3D)node;
+      for (int i = 0, n = shape.numGeometries(); i < n; i++) {
+        Geometry geometry = shape.getGeometry(i);
+        if (geometry instanceof GeometryArray
+            && ((GeometryArray)geometry).getVertexCount() >= SIMPLIFIED_GEOMETRY_MINIMUM_VERTEX_COUNT
+            && computedGeometries.add(geometry)) {
+          try {
+            Geometry simplifiedGeometry = getSimplifiedGeometry((GeometryArray)geometry, SIMPLIFIED_GEOMETRY_GRID_SIZE);
+            // Store only simplified geometries to avoid values referencing their key in the weak map
+            if (simplifiedGeometry != geometry) {
+              synchronized (this.simplifiedGeometries) {
+                this.simplifiedGeometries.put(geometry, simplifiedGeometry);
+              }
+            }
+          } catch (CapabilityNotSetException ex) {
+            // Keep full geometry if its data can't be read
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a clone of the given model <code>node</code> where the geometries of its shapes
+   * are replaced by the simplified geometries computed when the model was loaded,
+   * to display it at a lower level of detail. Simplified geometries are shared by the clones of a same model.
+   * @return a clone of <code>node</code> or <code>null</code> if the model doesn't have simplified geometries.
+   */
+  Node getSimplifiedNode(Node node) {
+    if (!containsSimplifiedGeometries(node)) {
+      return null;
+    }
+    Node simplifiedNode = cloneNode(node);
+    replaceGeometriesBySimplifiedGeometries(simplifiedNode, new HashSet<Shape3D>());
+    return simplifiedNode;
+  }
+
+  /**
+   * Returns <code>true</code> if a geometry of the shapes children of <code>node</code>
+   * has a simplified geometry.
+   */
+  private boolean containsSimplifiedGeometries(Node node) {
+    if (node instanceof Group) {
+      Enumeration<?> enumeration = ((Group)node).getAllChildren();
+      while (enumeration.hasMoreElements()) {
+        if (containsSimplifiedGeometries((Node)enumeration.nextElement())) {
+          return true;
+        }
+      }
+    } else if (node instanceof Link) {
+      return containsSimplifiedGeometries(((Link)node).getSharedGroup());
+    } else if (node instanceof Shape3D) {
+      Shape3D shape = (Shape3D)node;
+      synchronized (this.simplifiedGeometries) {
+        for (int i = 0, n = shape.numGeometries(); i < n; i++) {
+          if (this.simplifiedGeometries.containsKey(shape.getGeometry(i))) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Replaces the geometries of the shapes children of <code>node</code> by their simplified geometry.
+   */
+  private void replaceGeometriesBySimplifiedGeometries(Node node, Set<Shape3D> simplifiedShapes) {
+    if (node instanceof Group) {
+      Enumeration<?> enumeration = ((Group)node).getAllChildren();
+      while (enumeration.hasMoreElements()) {
+        replaceGeometriesBySimplifiedGeometries((Node)enumeration.nextElement(), simplifiedShapes);
+      }
+    } else if (node instanceof Link) {
+      replaceGeometriesBySimplifiedGeometries(((Link)node).getSharedGroup(), simplifiedShapes);
+    } else if (node instanceof Shape3D
+        && simplifiedShapes.add((Shape3D)node)) {
+      Shape3D shape = (Shape3D)node;
+      for (int i = 0, n = shape.numGeometries(); i < n; i++) {
+        Geometry simplifiedGeometry;
+        synchronized (this.simplifiedGeometries) {
+          simplifiedGeometry = this.simplifiedGeometries.get(shape.getGeometry(i));
+        }
+        if (simplifiedGeometry != null) {
+          shape.setGeometry(simplifiedGeometry, i);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a geometry computed from the triangles of <code>geometryArray</code>
+   * where the vertices of each cell of a grid surrounding the geometry are merged,
+   * or <code>geometryArray</code> itself if it can't be simplified.
+   */
+  private Geometry getSimplifiedGeometry(GeometryArray geometryArray, int gridSize) {
+    int vertexFormat = geometryArray.getVertexFormat();
+    if (!(geometryArray instanceof TriangleArray
+          || geometryArray instanceof QuadArray
+          || geometryArray instanceof TriangleStripArray
+          || geometryArray instanceof TriangleFanArray
+          || geometryArray instanceof IndexedTriangleArray
+          || geometryArray instanceof IndexedQuadArray
+          || geometryArray instanceof IndexedTriangleStripArray
+          || geometryArray instanceof IndexedTriangleFanArray)
+        || (vertexFormat & GeometryArray.USE_NIO_BUFFER) != 0) {
+      return geometryArray;
+    }
+    GeometryInfo geometryInfo = new GeometryInfo(geometryArray);
+    geometryInfo.convertToIndexedTriangles();
+    Point3f [] coordinates = geometryInfo.getCoordinates();
+    int [] coordinateIndices = geometryInfo.getCoordinateIndices();
+    Vector3f [] normals = geometryInfo.getNormals();
+    int [] normalIndices = geometryInfo.getNormalIndices();
+    Object [] textureCoordinates = geometryInfo.getTexCoordSetCount() > 0
+            && geometryInfo.getNumTexCoordComponents() == 2
+        ? geometryInfo.getTextureCoordinates(0)
+        : null;
+    int [] textureCoordinateIndices = textureCoordinates != null
+        ? geometryInfo.getTextureCoordinateIndices(0)
+        : null;
+    Object [] colors = geometryInfo.getColors();
+    int [] colorIndices = colors != null
+        ? geometryInfo.getColorIndices()
+        : null;
+    boolean colorsWithAlpha = colors instanceof Color4f [];
+    if (coordinates == null
+        || coordinates.length == 0) {
+      return geometryArray;
+    }
+
+    // Compute the size of grid cells from the bounds of the geometry
+    Point3f lower = new Point3f(Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY);
+    Point3f upper = new Point3f(Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY);
+    for (Point3f point : coordinates) {
+      lower.x = Math.min(lower.x, point.x);
+      lower.y = Math.min(lower.y, point.y);
+      lower.z = Math.min(lower.z, point.z);
+      upper.x = Math.max(upper.x, point.x);
+      upper.y = Math.max(upper.y, point.y);
+      upper.z = Math.max(upper.z, point.z);
+    }
+    float cellSize = Math.max(upper.x - lower.x, Math.max(upper.y - lower.y, upper.z - lower.z)) / gridSize;
+    if (cellSize <= 0) {
+      return geometryArray;
+    }
+
+    // Merge the vertices of each triangle which belong to the same cell and have a close orientation
+    Map<Long, Integer> clusters = new HashMap<Long, Integer>();
+    int [] clusterIndices = new int [coordinateIndices.length];
+    List<float []> clusterData = new ArrayList<float[]>();
+    for (int i = 0; i < coordinateIndices.length; i++) {
+      Point3f point = coordinates [coordinateIndices [i]];
+      Vector3f normal = normals != null
+          ? normals [normalIndices [i]]
+          : null;
+      long cellX = Math.min((int)((point.x - lower.x) / cellSize), gridSize);
+      long cellY = Math.min((int)((point.y - lower.y) / cellSize), gridSize);
+      long cellZ = Math.min((int)((point.z - lower.z) / cellSize), gridSize);
+      long key = ((cellX * (gridSize + 1) + cellY) * (gridSize + 1) + cellZ) << 3;
+      if (normal != null) {
+        // Keep separated the vertices of faces oriented in different directions
+        key |= (normal.x < 0 ? 1 : 0) | (normal.y < 0 ? 2 : 0) | (normal.z < 0 ? 4 : 0);
+      }
+      Integer clusterIndex = clusters.get(key);
+      float [] data;
+      if (clusterIndex == null) {
+        clusterIndex = clusterData.size();
+        clusters.put(key, clusterIndex);
+        // Store vertex count, coordinates sum, normals sum, first texture coordinates and colors sum
+        data = new float [13];
+        if (textureCoordinates != null) {
+          TexCoord2f textureCoordinate = (TexCoord2f)textureCoordinates [textureCoordinateIndices [i]];
+          data [7] = textureCoordinate.x;
+          data [8] = textureCoordinate.y;
+        }
+        clusterData.add(data);
+      } else {
+        data = clusterData.get(clusterIndex);
+      }
+      data [0]++;
+      data [1] += point.x;
+      data [2] += point.y;
+      data [3] += point.z;
+      if (normal != null) {
+        data [4] += normal.x;
+        data [5] += normal.y;
+        data [6] += normal.z;
+      }
+      if (colors != null) {
+        // Average vertex colors like normals
+        if (colorsWithAlpha) {
+          Color4f color = (Color4f)colors [colorIndices [i]];
+          data [9]  += color.x;
+          data [10] += color.y;
+          data [11] += color.z;
+          data [12] += color.w;
+        } else {
+          Color3f color = (Color3f)colors [colorIndices [i]];
+          data [9]  += color.x;
+          data [10] += color.y;
+          data [11] += color.z;
+        }
+      }
+      clusterIndices [i] = clusterIndex;
+    }
+
+    // Keep only the triangles which didn't collapse
+    int triangleIndexCount = 0;
+    for (int i = 0; i < clusterIndices.length; i += 3) {
+      int index1 = clusterIndices [i];
+      int index2 = clusterIndices [i + 1];
+      int index3 = clusterIndices [i + 2];
+      if (index1 != index2
+          && index2 != index3
+          && index3 != index1) {
+        clusterIndices [triangleIndexCount++] = index1;
+        clusterIndices [triangleIndexCount++] = index2;
+        clusterIndices [triangleIndexCount++] = index3;
+      }
+    }
+    if (triangleIndexCount == 0) {
+      return geometryArray;
+    }
+
+    int clusterCount = clusterData.size();
+    float [] simplifiedCoordinates = new float [clusterCount * 3];
+    float [] simplifiedNormals = normals != null ? new float [clusterCount * 3] : null;
+    float [] simplifiedTextureCoordinates = textureCoordinates != null ? new float [clusterCount * 2] : null;
+    int colorComponentCount = colorsWithAlpha ? 4 : 3;
+    float [] simplifiedColors = colors != null ? new float [clusterCount * colorComponentCount] : null;
+    Vector3f normal = new Vector3f();
+    for (int i = 0; i < clusterCount; i++) {
+      float [] data = clusterData.get(i);
+      simplifiedCoordinates [i * 3]     = data [1] / data [0];
+      simplifiedCoordinates [i * 3 + 1] = data [2] / data [0];
+      simplifiedCoordinates [i * 3 + 2] = data [3] / data [0];
+      if (simplifiedNormals != null) {
+        normal.set(data [4], data [5], data [6]);
+        if (normal.lengthSquared() > 0) {
+          normal.normalize();
+        }
+        simplifiedNormals [i * 3]     = normal.x;
+        simplifiedNormals [i * 3 + 1] = normal.y;
+        simplifiedNormals [i * 3 + 2] = normal.z;
+      }
+      if (simplifiedTextureCoordinates != null) {
+        simplifiedTextureCoordinates [i * 2]     = data [7];
+        simplifiedTextureCoordinates [i * 2 + 1] = data [8];
+      }
+      if (simplifiedColors != null) {
+        for (int j = 0; j < colorComponentCount; j++) {
+          simplifiedColors [i * colorComponentCount + j] = data [9 + j] / data [0];
+        }
+      }
+    }
+
+    int simplifiedVertexFormat = GeometryArray.COORDINATES | GeometryArray.USE_COORD_INDEX_ONLY;
+    if (simplifiedNormals != null) {
+      simplifiedVertexFormat |= GeometryArray.NORMALS;
+    }
+    if (simplifiedTextureCoordinates != null) {
+      simplifiedVertexFormat |= GeometryArray.TEXTURE_COORDINATE_2;
+    }
+    if (simplifiedColors != null) {
+      simplifiedVertexFormat |= colorsWithAlpha ? GeometryArray.COLOR_4 : GeometryArray.COLOR_3;
+    }
+    IndexedTriangleArray simplifiedGeometry = new IndexedTriangleArray(clusterCount, simplifiedVertexFormat, triangleIndexCount);
+    simplifiedGeometry.setCoordinates(0, simplifiedCoordinates);
+    if (simplifiedNormals != null) {
+      simplifiedGeometry.setNormals(0, simplifiedNormals);
+    }
+    if (simplifiedTextureCoordinates != null) {
+      simplifiedGeometry.setTextureCoordinates(0, 0, simplifiedTextureCoordinates);
+    }
+    if (simplifiedColors != null) {
+      simplifiedGeometry.setColors(0, simplifiedColors);
+    }
+    int [] simplifiedCoordinateIndices = new int [triangleIndexCount];
+    System.arraycopy(clusterIndices, 0, simplifiedCoordinateIndices, 0, triangleIndexCount);
+    simplifiedGeometry.setCoordinateIndices(0, simplifiedCoordinateIndices);
+    return simplifiedGeometry;
+  }
+
   /**
    * Computes the 2D area on floor or on front side of the 3D shapes children of <code>node</code>.
    */
@@ -111,9 +111,11 @@ public class OBJWriter extends FilterWriter {
   private String  mtlFileName;
 
   private int shapeIndex = 1;
-  private Map<Point3f, Integer>    vertexIndices = new HashMap<Point3f, Integer>();
-  private Map<Vector3f, Integer>   normalIndices = new HashMap<Vector3f, Integer>();
-  private Map<TexCoord2f, Integer> textureCoordinatesIndices = new HashMap<TexCoord2f, Integer>();  
+  private TupleIndices  vertexIndices = new TupleIndices(3);
+  private TupleIndices  normalIndices = new TupleIndices(3);
+  private TupleIndices  textureCoordinatesIndices = new TupleIndices(2);
+  private StringBuilder lineBuffer = new StringBuilder(128);
+  private char []       charBuffer = new char [8192];
   private Map<ComparableAppearance, String> appearances = 
       new LinkedHashMap<ComparableAppearance, String>();
   private Map<Texture, File> textures = new HashMap<Texture, File>();
@@ -191,7 +193,7 @@ public class OBJWriter extends FilterWriter {
    */
   public OBJWriter(OutputStream out, String header, 
                    int maximumFractionDigits) throws IOException {
-    this(new OutputStreamWriter(new BufferedOutputStream(out), "US-ASCII"), header, maximumFractionDigits);
+    this(new OutputStreamWriter(new BufferedOutputStream(out, 65536), "US-ASCII"), header, maximumFractionDigits);
   }
 
   /**
@@ -532,14 +534,12 @@ public class OBJWriter extends FilterWriter {
       
       boolean normalsDefined = (geometryArray.getVertexFormat() & GeometryArray.NORMALS) != 0;
       StringBuilder normalsBuffer;
-      List<Vector3f> addedNormals;
       if (normalsDefined) {
         normalsBuffer = new StringBuilder(geometryArray.getVertexCount() * 3 * 10);
-        addedNormals = new ArrayList<Vector3f>();
       } else {
         normalsBuffer = null;
-        addedNormals = null;
       }
+      int normalCount = this.normalIndices.size();
       int [] normalIndexSubstitutes = new int [geometryArray.getVertexCount()];
       int [] oppositeSideNormalIndexSubstitutes;
       if (cullFace == PolygonAttributes.CULL_NONE) {
@@ -604,7 +604,7 @@ public class OBJWriter extends FilterWriter {
                  normalsDefined && index < n; index++, i += vertexSize) {
               Vector3f normal = new Vector3f(vertexData [i], vertexData [i + 1], vertexData [i + 2]);
               normalsDefined = writeNormal(normalsBuffer, parentTransformations, normal, index, normalIndexSubstitutes, 
-                  oppositeSideNormalIndexSubstitutes, addedNormals, cullFace, backFaceNormalFlip);
+                  oppositeSideNormalIndexSubstitutes, cullFace, backFaceNormalFlip);
             }
           }
         } else {
@@ -637,7 +637,7 @@ public class OBJWriter extends FilterWriter {
             for (int index = 0, i = 0, n = geometryArray.getVertexCount(); normalsDefined && index < n; index++, i += 3) {
               Vector3f normal = new Vector3f(normalCoordinates [i], normalCoordinates [i + 1], normalCoordinates [i + 2]);
               normalsDefined = writeNormal(normalsBuffer, parentTransformations, normal, index, normalIndexSubstitutes, 
-                  oppositeSideNormalIndexSubstitutes, addedNormals, cullFace, backFaceNormalFlip);
+                  oppositeSideNormalIndexSubstitutes, cullFace, backFaceNormalFlip);
             }
           }
         }
@@ -673,19 +673,17 @@ public class OBJWriter extends FilterWriter {
             Vector3f normal = new Vector3f();
             geometryArray.getNormal(index, normal);
             normalsDefined = writeNormal(normalsBuffer, parentTransformations, normal, index, normalIndexSubstitutes, 
-                oppositeSideNormalIndexSubstitutes, addedNormals, cullFace, backFaceNormalFlip);
+                oppositeSideNormalIndexSubstitutes, cullFace, backFaceNormalFlip);
           }
         }
       }
 
       if (normalsDefined) {
         // Write normals only if they all contain valid values 
-        out.write(normalsBuffer.toString());
-      } else if (addedNormals != null) {
+        writeBuffer(normalsBuffer);
+      } else if (normalsBuffer != null) {
         // Remove ignored normals
-        for (Vector3f normal : addedNormals) {
-          this.normalIndices.remove(normal);
-        }
+        this.normalIndices.truncate(normalCount);
       }
 
       checkCurrentThreadIsntInterrupted();
@@ -833,19 +831,39 @@ public class OBJWriter extends FilterWriter {
                            Point3f vertex, int index,
                            int [] vertexIndexSubstitutes) throws IOException {
     transformationToParent.transform(vertex);
-    Integer vertexIndex = this.vertexIndices.get(vertex);
-    if (vertexIndex == null) {
-      vertexIndexSubstitutes [index] = this.vertexIndices.size() + 1;
-      this.vertexIndices.put(vertex, vertexIndexSubstitutes [index]);
+    int vertexCount = this.vertexIndices.size();
+    vertexIndexSubstitutes [index] = this.vertexIndices.add(vertex.x, vertex.y, vertex.z);
+    if (this.vertexIndices.size() > vertexCount) {
       // Write only once unique vertices
-      this.out.write("v " + format(vertex.x) 
-          + " " + format(vertex.y) 
-          + " " + format(vertex.z) + "\n");
-    } else {
-      vertexIndexSubstitutes [index] = vertexIndex;
+      this.lineBuffer.append("v ");
+      appendNumber(this.lineBuffer, vertex.x).append(' ');
+      appendNumber(this.lineBuffer, vertex.y).append(' ');
+      appendNumber(this.lineBuffer, vertex.z).append('\n');
+      writeBuffer(this.lineBuffer);
     }
   }
   
+  /**
+   * Appends a float number to the given buffer as fast as possible depending on the
+   * format chosen in constructor.
+   */
+  private StringBuilder appendNumber(StringBuilder buffer, float number) {
+    if (this.numberFormat != null) {
+      return buffer.append(this.numberFormat.format(number));
+    } else {
+      int start = buffer.length();
+      buffer.append(number);
+      for (int i = buffer.length() - 1; i > start; i--) {
+        if (buffer.charAt(i) == 'E') {
+          // Avoid scientific notation
+          buffer.setLength(start);
+          return buffer.append(this.defaultNumberFormat.format(number));
+        }
+      }
+      return buffer;
+    }      
+  }
+
   /**
    * Formats a float number to a string as fast as possible depending on the
    * format chosen in constructor.
@@ -864,6 +882,18 @@ public class OBJWriter extends FilterWriter {
     }      
   }
 
+  /**
+   * Writes the content of the given <code>buffer</code> and empties it.
+   */
+  private void writeBuffer(StringBuilder buffer) throws IOException {
+    for (int start = 0, length = buffer.length(); start < length; start += this.charBuffer.length) {
+      int end = Math.min(length, start + this.charBuffer.length);
+      buffer.getChars(start, end, this.charBuffer, 0);
+      this.out.write(this.charBuffer, 0, end - start);
+    }
+    buffer.setLength(0);
+  }
+
   /**
    * Applies to <code>normal</code> the given transformation, and appends to <code>normalsBuffer</code> 
    * its values in a line vn at OBJ format, if the normal wasn't written yet.  
@@ -874,7 +904,6 @@ public class OBJWriter extends FilterWriter {
                               Vector3f normal, int index,
                               int [] normalIndexSubstitutes,
                               int [] oppositeSideNormalIndexSubstitutes, 
-                              List<Vector3f> addedNormals, 
                               int cullFace, boolean backFaceNormalFlip) throws IOException {
     if (Float.isNaN(normal.x) || Float.isNaN(normal.y) || Float.isNaN(normal.z)) {
       return false;
@@ -886,17 +915,14 @@ public class OBJWriter extends FilterWriter {
       transformationToParent.transform(normal);
       normal.normalize();
     }
-    Integer normalIndex = this.normalIndices.get(normal);
-    if (normalIndex == null) {
-      normalIndexSubstitutes [index] = this.normalIndices.size() + 1;
-      this.normalIndices.put(normal, normalIndexSubstitutes [index]);
-      addedNormals.add(normal);
+    int normalCount = this.normalIndices.size();
+    normalIndexSubstitutes [index] = this.normalIndices.add(normal.x, normal.y, normal.z);
+    if (this.normalIndices.size() > normalCount) {
       // Write only once unique normals
-      normalsBuffer.append("vn " + format(normal.x) 
-          + " " + format(normal.y) 
-          + " " + format(normal.z) + "\n");
-    } else {
-      normalIndexSubstitutes [index] = normalIndex;
+      normalsBuffer.append("vn ");
+      appendNumber(normalsBuffer, normal.x).append(' ');
+      appendNumber(normalsBuffer, normal.y).append(' ');
+      appendNumber(normalsBuffer, normal.z).append('\n');
     }
     
     if (cullFace == PolygonAttributes.CULL_NONE) {
@@ -904,7 +930,7 @@ public class OBJWriter extends FilterWriter {
       oppositeNormal.negate(normal);
       // Fill opposite side normal index substitutes array
       return writeNormal(normalsBuffer, transformationToParent, oppositeNormal, index, oppositeSideNormalIndexSubstitutes, 
-          null, addedNormals, PolygonAttributes.CULL_FRONT, false);
+          null, PolygonAttributes.CULL_FRONT, false);
     } else {
       return true;
     }
@@ -921,15 +947,15 @@ public class OBJWriter extends FilterWriter {
       textureTransform.transform(transformedCoordinates);
       textureCoordinates = new TexCoord2f(transformedCoordinates.x, transformedCoordinates.y);
     }
-    Integer textureCoordinatesIndex = this.textureCoordinatesIndices.get(textureCoordinates);
-    if (textureCoordinatesIndex == null) {
-      textureCoordinatesIndexSubstitutes [index] = this.textureCoordinatesIndices.size() + 1;
-      this.textureCoordinatesIndices.put(textureCoordinates, textureCoordinatesIndexSubstitutes [index]);
+    int textureCoordinatesCount = this.textureCoordinatesIndices.size();
+    textureCoordinatesIndexSubstitutes [index] = 
+        this.textureCoordinatesIndices.add(textureCoordinates.x, textureCoordinates.y, 0);
+    if (this.textureCoordinatesIndices.size() > textureCoordinatesCount) {
       // Write only once unique texture coordinates
-      this.out.write("vt " + format(textureCoordinates.x) 
-          + " " + format(textureCoordinates.y) + " 0\n");
-    } else {
-      textureCoordinatesIndexSubstitutes [index] = textureCoordinatesIndex;
+      this.lineBuffer.append("vt ");
+      appendNumber(this.lineBuffer, textureCoordinates.x).append(' ');
+      appendNumber(this.lineBuffer, textureCoordinates.y).append(" 0\n");
+      writeBuffer(this.lineBuffer);
     }
   }
 
@@ -942,13 +968,15 @@ public class OBJWriter extends FilterWriter {
                                 int [] vertexIndexSubstitutes, 
                                 int [] textureCoordinatesIndexSubstitutes) throws IOException {
     if ((geometryArray.getVertexFormat() & GeometryArray.TEXTURE_COORDINATE_2) != 0) {
-      this.out.write("l " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-          + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex1)]) 
-          + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-          + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex2)]) + "\n");
+      this.lineBuffer.append("l ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+          .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex1)])
+          .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+          .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex2)]).append('\n');
+      writeBuffer(this.lineBuffer);
     } else {
-      this.out.write("l " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-          + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) + "\n");
+      this.lineBuffer.append("l ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+          .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]).append('\n');
+      writeBuffer(this.lineBuffer);
     }
   }
   
@@ -973,54 +1001,60 @@ public class OBJWriter extends FilterWriter {
     
     if (textureCoordinatesGenerated) {
       if (normalsDefined) {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)]).append('\n');
+        writeBuffer(this.lineBuffer);
       } else {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]).append('\n');
+        writeBuffer(this.lineBuffer);
       }
     } else if ((geometryArray.getVertexFormat() & GeometryArray.TEXTURE_COORDINATE_2) != 0) {
       if (normalsDefined) {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex1)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex2)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex3)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex1)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex2)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex3)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)]).append('\n');
+        writeBuffer(this.lineBuffer);
       } else {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex1)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex2)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex3)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex3)]).append('\n');
+        writeBuffer(this.lineBuffer);
       }
     } else {
       if (normalsDefined) {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "//" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)]) 
-            + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "//" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)]) 
-            + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "//" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append("//").append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append("//").append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append("//").append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)]).append('\n');
+        writeBuffer(this.lineBuffer);
       } else {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]).append('\n');
+        writeBuffer(this.lineBuffer);
       }
     }
 
@@ -1056,67 +1090,73 @@ public class OBJWriter extends FilterWriter {
     
     if (textureCoordinatesGenerated) {
       if (normalsDefined) {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex4)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex4)]).append('\n');
+        writeBuffer(this.lineBuffer);
       } else {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)]).append('\n');
+        writeBuffer(this.lineBuffer);
       }
     } else if ((geometryArray.getVertexFormat() & GeometryArray.TEXTURE_COORDINATE_2) != 0) {
       if (normalsDefined) {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex1)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex2)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex3)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex4)]) 
-            + "/" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex4)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex1)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex2)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex3)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex4)])
+            .append('/').append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex4)]).append('\n');
+        writeBuffer(this.lineBuffer);
       } else {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex1)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex2)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex3)]) 
-            + " " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex4)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex3)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)])
+            .append('/').append(textureCoordinatesIndexSubstitutes [geometryArray.getTextureCoordinateIndex(0, vertexIndex4)]).append('\n');
+        writeBuffer(this.lineBuffer);
       }
     } else {
       if (normalsDefined) {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + "//" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)]) 
-            + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + "//" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)]) 
-            + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + "//" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)]) 
-            + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)]) 
-            + "//" + (normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex4)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append("//").append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append("//").append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append("//").append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex3)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)])
+            .append("//").append(normalIndexSubstitutes [geometryArray.getNormalIndex(vertexIndex4)]).append('\n');
+        writeBuffer(this.lineBuffer);
       } else {
-        this.out.write("f " + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)]) 
-            + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)]) 
-            + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)]) 
-            + " "  + (vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex1)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex2)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex3)])
+            .append(' ').append(vertexIndexSubstitutes [geometryArray.getCoordinateIndex(vertexIndex4)]).append('\n');
+        writeBuffer(this.lineBuffer);
       }
     }
 
@@ -1137,13 +1177,15 @@ public class OBJWriter extends FilterWriter {
                          int [] vertexIndexSubstitutes,  
                          int [] textureCoordinatesIndexSubstitutes) throws IOException {
     if ((geometryArray.getVertexFormat() & GeometryArray.TEXTURE_COORDINATE_2) != 0) {
-      this.out.write("l " + (vertexIndexSubstitutes [vertexIndex1]) 
-          + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex1]) 
-          + " " + (vertexIndexSubstitutes [vertexIndex2]) 
-          + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex2]) + "\n");
+      this.lineBuffer.append("l ").append(vertexIndexSubstitutes [vertexIndex1])
+          .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex1])
+          .append(' ').append(vertexIndexSubstitutes [vertexIndex2])
+          .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex2]).append('\n');
+      writeBuffer(this.lineBuffer);
     } else {
-      this.out.write("l " + (vertexIndexSubstitutes [vertexIndex1]) 
-          + " "  + (vertexIndexSubstitutes [vertexIndex2]) + "\n");
+      this.lineBuffer.append("l ").append(vertexIndexSubstitutes [vertexIndex1])
+          .append(' ').append(vertexIndexSubstitutes [vertexIndex2]).append('\n');
+      writeBuffer(this.lineBuffer);
     }
   }
   
@@ -1169,35 +1211,39 @@ public class OBJWriter extends FilterWriter {
     if (textureCoordinatesGenerated
         || (geometryArray.getVertexFormat() & GeometryArray.TEXTURE_COORDINATE_2) != 0) {
       if (normalsDefined) {
-        this.out.write("f " + (vertexIndexSubstitutes [vertexIndex1]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex1]) 
-            + "/" + (normalIndexSubstitutes [vertexIndex1]) 
-            + " " + (vertexIndexSubstitutes [vertexIndex2]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex2]) 
-            + "/" + (normalIndexSubstitutes [vertexIndex2]) 
-            + " " + (vertexIndexSubstitutes [vertexIndex3]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex3]) 
-            + "/" + (normalIndexSubstitutes [vertexIndex3]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [vertexIndex1])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex1])
+            .append('/').append(normalIndexSubstitutes [vertexIndex1])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex2])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex2])
+            .append('/').append(normalIndexSubstitutes [vertexIndex2])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex3])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex3])
+            .append('/').append(normalIndexSubstitutes [vertexIndex3]).append('\n');
+        writeBuffer(this.lineBuffer);
       } else {
-        this.out.write("f " + (vertexIndexSubstitutes [vertexIndex1]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex1]) 
-            + " " + (vertexIndexSubstitutes [vertexIndex2]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex2]) 
-            + " " + (vertexIndexSubstitutes [vertexIndex3]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex3]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [vertexIndex1])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex1])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex2])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex2])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex3])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex3]).append('\n');
+        writeBuffer(this.lineBuffer);
       }
     } else {
       if (normalsDefined) {
-        this.out.write("f " + (vertexIndexSubstitutes [vertexIndex1]) 
-            + "//" + (normalIndexSubstitutes [vertexIndex1]) 
-            + " "  + (vertexIndexSubstitutes [vertexIndex2]) 
-            + "//" + (normalIndexSubstitutes [vertexIndex2]) 
-            + " "  + (vertexIndexSubstitutes [vertexIndex3]) 
-            + "//" + (normalIndexSubstitutes [vertexIndex3]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [vertexIndex1])
+            .append("//").append(normalIndexSubstitutes [vertexIndex1])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex2])
+            .append("//").append(normalIndexSubstitutes [vertexIndex2])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex3])
+            .append("//").append(normalIndexSubstitutes [vertexIndex3]).append('\n');
+        writeBuffer(this.lineBuffer);
       } else {
-        this.out.write("f " + (vertexIndexSubstitutes [vertexIndex1]) 
-            + " "  + (vertexIndexSubstitutes [vertexIndex2]) 
-            + " "  + (vertexIndexSubstitutes [vertexIndex3]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [vertexIndex1])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex2])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex3]).append('\n');
+        writeBuffer(this.lineBuffer);
       }
     }
 
@@ -1234,43 +1280,47 @@ public class OBJWriter extends FilterWriter {
     if (textureCoordinatesGenerated
         || (geometryArray.getVertexFormat() & GeometryArray.TEXTURE_COORDINATE_2) != 0) {
       if (normalsDefined) {
-        this.out.write("f " + (vertexIndexSubstitutes [vertexIndex1]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex1]) 
-            + "/" + (normalIndexSubstitutes [vertexIndex1]) 
-            + " " + (vertexIndexSubstitutes [vertexIndex2]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex2]) 
-            + "/" + (normalIndexSubstitutes [vertexIndex2]) 
-            + " " + (vertexIndexSubstitutes [vertexIndex3]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex3]) 
-            + "/" + (normalIndexSubstitutes [vertexIndex3]) 
-            + " " + (vertexIndexSubstitutes [vertexIndex4]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex4]) 
-            + "/" + (normalIndexSubstitutes [vertexIndex4]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [vertexIndex1])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex1])
+            .append('/').append(normalIndexSubstitutes [vertexIndex1])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex2])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex2])
+            .append('/').append(normalIndexSubstitutes [vertexIndex2])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex3])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex3])
+            .append('/').append(normalIndexSubstitutes [vertexIndex3])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex4])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex4])
+            .append('/').append(normalIndexSubstitutes [vertexIndex4]).append('\n');
+        writeBuffer(this.lineBuffer);
       } else {
-        this.out.write("f " + (vertexIndexSubstitutes [vertexIndex1]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex1]) 
-            + " " + (vertexIndexSubstitutes [vertexIndex2]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex2]) 
-            + " " + (vertexIndexSubstitutes [vertexIndex3]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex3]) 
-            + " " + (vertexIndexSubstitutes [vertexIndex4]) 
-            + "/" + (textureCoordinatesIndexSubstitutes [vertexIndex4]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [vertexIndex1])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex1])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex2])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex2])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex3])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex3])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex4])
+            .append('/').append(textureCoordinatesIndexSubstitutes [vertexIndex4]).append('\n');
+        writeBuffer(this.lineBuffer);
       }
     } else {
       if (normalsDefined) {
-        this.out.write("f " + (vertexIndexSubstitutes [vertexIndex1]) 
-            + "//" + (normalIndexSubstitutes [vertexIndex1]) 
-            + " "  + (vertexIndexSubstitutes [vertexIndex2]) 
-            + "//" + (normalIndexSubstitutes [vertexIndex2]) 
-            + " "  + (vertexIndexSubstitutes [vertexIndex3]) 
-            + "//" + (normalIndexSubstitutes [vertexIndex3]) 
-            + " "  + (vertexIndexSubstitutes [vertexIndex4]) 
-            + "//" + (normalIndexSubstitutes [vertexIndex4]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [vertexIndex1])
+            .append("//").append(normalIndexSubstitutes [vertexIndex1])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex2])
+            .append("//").append(normalIndexSubstitutes [vertexIndex2])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex3])
+            .append("//").append(normalIndexSubstitutes [vertexIndex3])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex4])
+            .append("//").append(normalIndexSubstitutes [vertexIndex4]).append('\n');
+        writeBuffer(this.lineBuffer);
       } else {
-        this.out.write("f " + (vertexIndexSubstitutes [vertexIndex1]) 
-            + " "  + (vertexIndexSubstitutes [vertexIndex2]) 
-            + " "  + (vertexIndexSubstitutes [vertexIndex3]) 
-            + " "  + (vertexIndexSubstitutes [vertexIndex4]) + "\n");
+        this.lineBuffer.append("f ").append(vertexIndexSubstitutes [vertexIndex1])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex2])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex3])
+            .append(' ').append(vertexIndexSubstitutes [vertexIndex4]).append('\n');
+        writeBuffer(this.lineBuffer);
       }
     }
 
@@ -1490,6 +1540,102 @@ public class OBJWriter extends FilterWriter {
   }
   
   
+  /**
+   * Indices of tuples of 2 or 3 float values, stored in an open addressing hash table 
+   * to avoid creating a key and an index object for each written tuple. 
+   * Like <code>Tuple3f#equals</code>, tuples are equal if their values are equal with <code>==</code>.
+   */
+  private static class TupleIndices {
+    private final int tupleSize;
+    private float []  values;
+    private int []    table;
+    private int       size;
+
+    public TupleIndices(int tupleSize) {
+      this.tupleSize = tupleSize;
+      this.values = new float [tupleSize * 512];
+      this.table = new int [1024];
+    }
+
+    /**
+     * Returns the count of tuples stored in this set.
+     */
+    public int size() {
+      return this.size;
+    }
+
+    /**
+     * Adds the given tuple to this set if it doesn't exist yet, and returns its index
+     * starting at 1. The third value is ignored for tuples of size 2.
+     */
+    public int add(float x, float y, float z) {
+      int mask = this.table.length - 1;
+      for (int slot = hash(x, y, z) & mask; ; slot = (slot + 1) & mask) {
+        int index = this.table [slot];
+        if (index == 0) {
+          // Store new tuple
+          if (this.values.length < (this.size + 1) * this.tupleSize) {
+            float [] values = new float [this.values.length * 2];
+            System.arraycopy(this.values, 0, values, 0, this.values.length);
+            this.values = values;
+          }
+          int i = this.size * this.tupleSize;
+          this.values [i] = x;
+          this.values [i + 1] = y;
+          if (this.tupleSize == 3) {
+            this.values [i + 2] = z;
+          }
+          this.table [slot] = ++this.size;
+          if (this.size * 2 > this.table.length) {
+            rehash(this.table.length * 2);
+          }
+          return this.size;
+        } else {
+          int i = (index - 1) * this.tupleSize;
+          if (this.values [i] == x
+              && this.values [i + 1] == y
+              && (this.tupleSize == 2 || this.values [i + 2] == z)) {
+            return index;
+          }
+        }
+      }
+    }
+
+    /**
+     * Removes the tuples added after the given count of tuples.
+     */
+    public void truncate(int size) {
+      if (size < this.size) {
+        this.size = size;
+        rehash(this.table.length);
+      }
+    }
+
+    private void rehash(int tableLength) {
+      this.table = new int [tableLength];
+      int mask = tableLength - 1;
+      for (int index = 1; index <= this.size; index++) {
+        int i = (index - 1) * this.tupleSize;
+        int slot = hash(this.values [i], this.values [i + 1], this.tupleSize == 3 ? this.values [i + 2] : 0) & mask;
+        while (this.table [slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        this.table [slot] = index;
+      }
+    }
+
+    private static int hash(float x, float y, float z) {
+      // Use the same bits for 0 and -0 since they're equal
+      int hash = Float.floatToIntBits(x == 0 ? 0 : x);
+      hash = hash * 31 + Float.floatToIntBits(y == 0 ? 0 : y);
+      hash = hash * 31 + Float.floatToIntBits(z == 0 ? 0 : z);
+      // Spread bits
+      hash ^= (hash >>> 16);
+      hash *= 0x85EBCA6B;
+      return hash ^ (hash >>> 13);
+    }
+  }
+
   /**
    * An <code>Appearance</code> wrapper able to compare 
    * if two appearances are equal for MTL format.  
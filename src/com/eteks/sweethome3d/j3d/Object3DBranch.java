@@ -33,6 +33,9 @@ import java.util.WeakHashMap;
 
 import javax.media.j3d.BranchGroup;
 import javax.media.j3d.ColoringAttributes;
+import javax.media.j3d.Geometry;
+import javax.media.j3d.GeometryArray;
+import javax.media.j3d.IndexedTriangleArray;
 import javax.media.j3d.LineAttributes;
 import javax.media.j3d.Material;
 import javax.media.j3d.PolygonAttributes;
@@ -417,4 +420,146 @@ public abstract class Object3DBranch extends BranchGroup {
 
     return areaPointsWithoutHoles;
   }
+
+  /**
+   * Returns the given <code>geometries</code> where the indexed triangle arrays
+   * with the same vertex format are merged in a single geometry, to reduce the count
+   * of geometries and draw calls required to render a shape.
+   */
+  protected List<Geometry> getMergedGeometries(List<Geometry> geometries) {
+    if (geometries.size() < 2) {
+      return geometries;
+    }
+    List<Geometry> mergedGeometries = new ArrayList<Geometry>(geometries.size());
+    // Group mergeable geometries by vertex format, keeping the location of the first one of each group
+    Map<Integer, List<IndexedTriangleArray>> mergeableGeometries = new HashMap<Integer, List<IndexedTriangleArray>>();
+    Map<Integer, Integer> mergedGeometriesIndices = new HashMap<Integer, Integer>();
+    for (Geometry geometry : geometries) {
+      if (isMergeableGeometry(geometry)) {
+        IndexedTriangleArray triangleArray = (IndexedTriangleArray)geometry;
+        Integer vertexFormat = triangleArray.getVertexFormat();
+        List<IndexedTriangleArray> sameFormatGeometries = mergeableGeometries.get(vertexFormat);
+        if (sameFormatGeometries == null) {
+          sameFormatGeometries = new ArrayList<IndexedTriangleArray>();
+          mergeableGeometries.put(vertexFormat, sameFormatGeometries);
+          mergedGeometriesIndices.put(vertexFormat, mergedGeometries.size());
+          mergedGeometries.add(geometry);
+        }
+        sameFormatGeometries.add(triangleArray);
+      } else {
+        mergedGeometries.add(geometry);
+      }
+    }
+
+    for (Map.Entry<Integer, List<IndexedTriangleArray>> entry : mergeableGeometries.entrySet()) {
+      List<IndexedTriangleArray> sameFormatGeometries = entry.getValue();
+      if (sameFormatGeometries.size() > 1) {
+        mergedGeometries.set(mergedGeometriesIndices.get(entry.getKey()), mergeTriangleArrays(sameFormatGeometries));
+      }
+    }
+    return mergedGeometries;
+  }
+
+  /**
+   * Returns <code>true</code> if the given geometry is an indexed triangle array
+   * with coordinates, and optional normals and texture coordinates stored by copy.
+   */
+  private boolean isMergeableGeometry(Geometry geometry) {
+    if (geometry instanceof IndexedTriangleArray) {
+      IndexedTriangleArray triangleArray = (IndexedTriangleArray)geometry;
+      int vertexFormat = triangleArray.getVertexFormat();
+      return (vertexFormat & (GeometryArray.BY_REFERENCE | GeometryArray.INTERLEAVED | GeometryArray.USE_NIO_BUFFER
+                              | GeometryArray.COLOR_3 | GeometryArray.COLOR_4 | GeometryArray.VERTEX_ATTRIBUTES
+                              | GeometryArray.TEXTURE_COORDINATE_3 | GeometryArray.TEXTURE_COORDINATE_4
+                              | GeometryArray.BY_REFERENCE_INDICES)) == 0
+          && triangleArray.getTexCoordSetCount() <= 1
+          && triangleArray.getTexCoordSetMapLength() <= 1
+          && triangleArray.getInitialIndexIndex() == 0
+          && triangleArray.getValidIndexCount() == triangleArray.getIndexCount();
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Returns a geometry that contains all the triangles of the given arrays of the same format.
+   */
+  private IndexedTriangleArray mergeTriangleArrays(List<IndexedTriangleArray> triangleArrays) {
+    int vertexFormat = triangleArrays.get(0).getVertexFormat();
+    boolean normals = (vertexFormat & GeometryArray.NORMALS) != 0;
+    boolean textureCoordinates = (vertexFormat & GeometryArray.TEXTURE_COORDINATE_2) != 0;
+    boolean coordinateIndicesOnly = (vertexFormat & GeometryArray.USE_COORD_INDEX_ONLY) != 0;
+    int vertexCount = 0;
+    int indexCount = 0;
+    for (IndexedTriangleArray triangleArray : triangleArrays) {
+      vertexCount += triangleArray.getVertexCount();
+      indexCount += triangleArray.getIndexCount();
+    }
+
+    float [] coordinates = new float [vertexCount * 3];
+    float [] normalsCoordinates = normals ? new float [vertexCount * 3] : null;
+    float [] textureCoordinatesValues = textureCoordinates ? new float [vertexCount * 2] : null;
+    int [] coordinateIndices = new int [indexCount];
+    int [] normalIndices = normals && !coordinateIndicesOnly ? new int [indexCount] : null;
+    int [] textureCoordinateIndices = textureCoordinates && !coordinateIndicesOnly ? new int [indexCount] : null;
+    int vertexOffset = 0;
+    int indexOffset = 0;
+    for (IndexedTriangleArray triangleArray : triangleArrays) {
+      int arrayVertexCount = triangleArray.getVertexCount();
+      float [] arrayValues = new float [arrayVertexCount * 3];
+      triangleArray.getCoordinates(0, arrayValues);
+      System.arraycopy(arrayValues, 0, coordinates, vertexOffset * 3, arrayValues.length);
+      if (normals) {
+        triangleArray.getNormals(0, arrayValues);
+        System.arraycopy(arrayValues, 0, normalsCoordinates, vertexOffset * 3, arrayValues.length);
+      }
+      if (textureCoordinates) {
+        float [] arrayTextureCoordinates = new float [arrayVertexCount * 2];
+        triangleArray.getTextureCoordinates(0, 0, arrayTextureCoordinates);
+        System.arraycopy(arrayTextureCoordinates, 0, textureCoordinatesValues, vertexOffset * 2, arrayTextureCoordinates.length);
+      }
+      int [] arrayIndices = new int [triangleArray.getIndexCount()];
+      triangleArray.getCoordinateIndices(0, arrayIndices);
+      copyShiftedIndices(arrayIndices, vertexOffset, coordinateIndices, indexOffset);
+      if (normalIndices != null) {
+        triangleArray.getNormalIndices(0, arrayIndices);
+        copyShiftedIndices(arrayIndices, vertexOffset, normalIndices, indexOffset);
+      }
+      if (textureCoordinateIndices != null) {
+        triangleArray.getTextureCoordinateIndices(0, 0, arrayIndices);
+        copyShiftedIndices(arrayIndices, vertexOffset, textureCoordinateIndices, indexOffset);
+      }
+      vertexOffset += arrayVertexCount;
+      indexOffset += arrayIndices.length;
+    }
+
+    IndexedTriangleArray mergedArray;
+    if (textureCoordinates) {
+      mergedArray = new IndexedTriangleArray(vertexCount, vertexFormat, 1, new int [] {0}, indexCount);
+      mergedArray.setTextureCoordinates(0, 0, textureCoordinatesValues);
+    } else {
+      mergedArray = new IndexedTriangleArray(vertexCount, vertexFormat, indexCount);
+    }
+    mergedArray.setCoordinates(0, coordinates);
+    mergedArray.setCoordinateIndices(0, coordinateIndices);
+    if (normals) {
+      mergedArray.setNormals(0, normalsCoordinates);
+      if (normalIndices != null) {
+        mergedArray.setNormalIndices(0, normalIndices);
+      }
+    }
+    if (textureCoordinateIndices != null) {
+      mergedArray.setTextureCoordinateIndices(0, 0, textureCoordinateIndices);
+    }
+    return mergedArray;
+  }
+
+  /**
+   * Copies the given <code>indices</code> shifted of <code>offset</code> in <code>destination</code>.
+   */
+  private void copyShiftedIndices(int [] indices, int offset, int [] destination, int destinationIndex) {
+    for (int i = 0; i < indices.length; i++) {
+      destination [destinationIndex + i] = indices [i] + offset;
+    }
+  }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@
  */
 package com.eteks.sweethome3d.j3d;
 
+import java.awt.Shape;
 import java.awt.geom.Area;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
@@ -179,7 +180,7 @@ public class Room3D extends Object3DBranch {
     int currentGeometriesCount = roomFilledShape.numGeometries();
     Room room = (Room)getUserData();
     if (room.getLevel() == null || room.getLevel().isViewableAndVisible()) {
-      for (Geometry roomGeometry : createRoomGeometries(roomPart, texture)) {
+      for (Geometry roomGeometry : getMergedGeometries(Arrays.asList(createRoomGeometries(roomPart, texture)))) {
         roomFilledShape.addGeometry(roomGeometry);
         if (roomOutlineShape != null) {
           roomOutlineShape.addGeometry(roomGeometry);
@@ -304,9 +305,14 @@ public class Room3D extends Object3DBranch {
         roomVisibleArea = new Area(getShape(points));
         if (roomsAtSameElevation.contains(room)) {
           // Remove other rooms surface that may overlap the current room
+          Rectangle2D roomBounds = roomVisibleArea.getBounds2D();
           for (int i = roomsAtSameElevation.size() - 1; i > 0 && roomsAtSameElevation.get(i) != room; i--) {
             Room otherRoom = roomsAtSameElevation.get(i);
-            roomVisibleArea.subtract(new Area(getShape(otherRoom.getPoints())));
+            Shape otherRoomShape = getShape(otherRoom.getPoints());
+            // Ignore rooms far from the current room to avoid useless area computations
+            if (otherRoomShape.getBounds2D().intersects(roomBounds)) {
+              roomVisibleArea.subtract(new Area(otherRoomShape));
+            }
           }
         }
         removeStaircasesFromArea(visibleStaircases, roomVisibleArea);
@@ -398,9 +404,13 @@ public class Room3D extends Object3DBranch {
         if (roomVisibleArea != null
             || ceilingsAtSameFloorBottomElevation.size() > 0) {
           Area floorBottomVisibleArea = roomVisibleArea != null ? roomVisibleArea : new Area(getShape(points));
+          Rectangle2D floorBottomBounds = floorBottomVisibleArea.getBounds2D();
           // Remove other rooms surface that may overlap the floor bottom
           for (Room otherRoom : ceilingsAtSameFloorBottomElevation) {
-           floorBottomVisibleArea.subtract(new Area(getShape(otherRoom.getPoints())));
+            Shape otherRoomShape = getShape(otherRoom.getPoints());
+            if (otherRoomShape.getBounds2D().intersects(floorBottomBounds)) {
+              floorBottomVisibleArea.subtract(new Area(otherRoomShape));
+            }
           }
           floorBottomPointsWithoutHoles = getAreaPoints(floorBottomVisibleArea, 1, true);
         } else {
@@ -215,7 +215,7 @@ public class Wall3D extends Object3DBranch {
             baseboard, baseboardTexture, waitDoorOrWindowModelsLoadingEnd);
       }
       for (int i = 0; i < wallSideGroups.length; i++) {
-        for (Geometry wallGeometry : (List<Geometry>)wallGeometries [i]) {
+        for (Geometry wallGeometry : getMergedGeometries((List<Geometry>)wallGeometries [i])) {
           if (wallGeometry != null) {
             wallFilledShapes [i].addGeometry(wallGeometry);
             if (wallOutlineShapes [i] != null) {
@@ -291,11 +291,15 @@ public class Wall3D extends Object3DBranch {
     // Search which doors or windows intersect with this wall side or its baseboard
     List<DoorOrWindowArea> windowIntersections = new ArrayList<DoorOrWindowArea>();
     List<HomePieceOfFurniture> intersectingDoorOrWindows = new ArrayList<HomePieceOfFurniture>();
+    Rectangle2D wallBounds = wallShape.getBounds2D();
     for (HomePieceOfFurniture piece : getVisibleDoorsAndWindows(this.home.getFurniture())) {
       float pieceElevation = piece.getGroundElevation();
+      Shape pieceShape = getShape(piece.getPoints());
       if (pieceElevation + piece.getHeight() > wallElevation
-          && pieceElevation < maxTopElevation) {
-        Area pieceArea = new Area(getShape(piece.getPoints()));
+          && pieceElevation < maxTopElevation
+          // Compare bounds first to avoid computing the intersection with doors and windows far from this wall
+          && pieceShape.getBounds2D().intersects(wallBounds)) {
+        Area pieceArea = new Area(pieceShape);
         Area intersectionArea = new Area(wallShape);
         intersectionArea.intersect(pieceArea);
         if (!intersectionArea.isEmpty()) {
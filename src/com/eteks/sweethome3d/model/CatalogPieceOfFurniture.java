@@ -1025,7 +1025,7 @@ public class CatalogPieceOfFurniture implements Comparable<CatalogPieceOfFurnitu
     if (filterCriteriaCollationKeys.length > 0) {
       byte [] furnitureCollationKey = getPieceOfFurnitureCollationKey();
       for (int i = 0; i < filterCriteriaCollationKeys.length; i++) {
-        if (isSubCollationKey(furnitureCollationKey, filterCriteriaCollationKeys [i], 0)) {
+        if (isSubCollationKey(furnitureCollationKey, filterCriteriaCollationKeys [i])) {
           checkedCriteria++;
         } else {
           break;
@@ -1106,16 +1106,18 @@ public class CatalogPieceOfFurniture implements Comparable<CatalogPieceOfFurnitu
   /**
    * Returns <code>true</code> if the given filter collation key is a sub part of the first array collator key.
    */
-  private boolean isSubCollationKey(byte [] collationKey, byte [] filterCollationKey, int start) {
+  private boolean isSubCollationKey(byte [] collationKey, byte [] filterCollationKey) {
     // Ignore the last 4 bytes of the collator key
-    for (int i = start, n = collationKey.length - 4, m = filterCollationKey.length - 4; i < n && i < n - m + 1; i++) {
+    for (int i = 0, n = collationKey.length - 4, m = filterCollationKey.length - 4; i < n && i < n - m + 1; i++) {
       if (collationKey [i] == filterCollationKey [0]) {
-        for (int j = 1; j < m; j++) {
-          if (collationKey [i + j] != filterCollationKey [j]) {
-            return isSubCollationKey(collationKey, filterCollationKey, i + 1);
-          }
+        int j = 1;
+        while (j < m
+            && collationKey [i + j] == filterCollationKey [j]) {
+          j++;
+        }
+        if (j >= m) {
+          return true;
         }
-        return true;
       }
     }
     return false;
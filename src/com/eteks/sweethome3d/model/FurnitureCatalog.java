@@ -21,7 +21,11 @@ package com.eteks.sweethome3d.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Furniture catalog.
@@ -92,6 +96,36 @@ public class FurnitureCatalog {
         category.getIndexOfPieceOfFurniture(piece), CollectionEvent.Type.ADD);
   }
 
+  /**
+   * Adds the given <code>furniture</code> of a given <code>category</code> to this catalog.
+   * The furniture are merged at once in the category, then furniture listeners added to this catalog
+   * receive a {@link CollectionListener#collectionChanged(CollectionEvent) collectionChanged}
+   * notification for each of them, in the order of their index in the category.
+   * @param category the category of the furniture.
+   * @param furniture the furniture to add.
+   * @since 6.4
+   */
+  public void addAll(FurnitureCategory category, List<CatalogPieceOfFurniture> furniture) {
+    if (furniture.isEmpty()) {
+      return;
+    }
+    List<CatalogPieceOfFurniture> sortedFurniture = new ArrayList<CatalogPieceOfFurniture>(furniture);
+    Collections.sort(sortedFurniture);
+    int index = Collections.binarySearch(this.categories, category);
+    if (index < 0) {
+      // Add first piece alone to notify listeners of the new category
+      add(category, sortedFurniture.get(0));
+      category = this.categories.get(-index - 1);
+      sortedFurniture = sortedFurniture.subList(1, sortedFurniture.size());
+    } else {
+      category = this.categories.get(index);
+    }
+    int [] indices = category.addAll(sortedFurniture);
+    for (int i = 0; i < indices.length; i++) {
+      this.furnitureChangeSupport.fireCollectionChanged(sortedFurniture.get(i), indices [i], CollectionEvent.Type.ADD);
+    }
+  }
+
   /**
    * Deletes the <code>piece</code> from this catalog.
    * If then piece category is empty, it will be removed from the categories of this catalog. 
@@ -121,4 +155,51 @@ public class FurnitureCatalog {
 
     throw new IllegalArgumentException("catalog doesn't contain piece " + piece.getName());
   }
+
+  /**
+   * Deletes the given <code>furniture</code> from this catalog.
+   * The furniture are removed at once from each of their categories and the emptied categories
+   * are removed from this catalog. Then furniture listeners added to this catalog receive a
+   * {@link CollectionListener#collectionChanged(CollectionEvent) collectionChanged}
+   * notification for each deleted piece, in the descending order of their index in their category.
+   * @param furniture furniture of this catalog.
+   * @throws IllegalArgumentException if one of the furniture doesn't belong to this catalog.
+   * @since 6.4
+   */
+  public void deleteAll(List<CatalogPieceOfFurniture> furniture) {
+    Map<FurnitureCategory, Set<CatalogPieceOfFurniture>> categoriesFurniture = new LinkedHashMap<FurnitureCategory, Set<CatalogPieceOfFurniture>>();
+    for (CatalogPieceOfFurniture piece : furniture) {
+      FurnitureCategory category = piece.getCategory();
+      if (category == null) {
+        throw new IllegalArgumentException("catalog doesn't contain piece " + piece.getName());
+      }
+      Set<CatalogPieceOfFurniture> categoryFurniture = categoriesFurniture.get(category);
+      if (categoryFurniture == null) {
+        categoryFurniture = new HashSet<CatalogPieceOfFurniture>();
+        categoriesFurniture.put(category, categoryFurniture);
+      }
+      categoryFurniture.add(piece);
+    }
+
+    for (Map.Entry<FurnitureCategory, Set<CatalogPieceOfFurniture>> entry : categoriesFurniture.entrySet()) {
+      FurnitureCategory category = entry.getKey();
+      Set<CatalogPieceOfFurniture> categoryFurniture = entry.getValue();
+      CatalogPieceOfFurniture lastPiece = null;
+      if (categoryFurniture.size() == category.getFurnitureCount()) {
+        // Keep the first piece of an emptied category to delete it last
+        // and notify listeners of the category removal
+        lastPiece = category.getPieceOfFurniture(0);
+        categoryFurniture.remove(lastPiece);
+      }
+      List<CatalogPieceOfFurniture> categoryFurnitureBeforeDeletion = category.getFurniture();
+      int [] indices = category.deleteAll(categoryFurniture);
+      for (int i = indices.length - 1; i >= 0; i--) {
+        this.furnitureChangeSupport.fireCollectionChanged(categoryFurnitureBeforeDeletion.get(indices [i]),
+            indices [i], CollectionEvent.Type.DELETE);
+      }
+      if (lastPiece != null) {
+        delete(lastPiece);
+      }
+    }
+  }
 }
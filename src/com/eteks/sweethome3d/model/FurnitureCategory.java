@@ -23,6 +23,7 @@ import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Category of furniture.
@@ -108,6 +109,57 @@ public class FurnitureCategory implements Comparable<FurnitureCategory> {
     this.furniture = new ArrayList<CatalogPieceOfFurniture>(this.furniture);
     this.furniture.remove(pieceIndex);
   }
+
+  /**
+   * Adds the given sorted furniture to this category in one pass.
+   * @param sortedFurniture furniture sorted in their natural order.
+   * @return the indices of the added furniture in this category.
+   */
+  int [] addAll(List<CatalogPieceOfFurniture> sortedFurniture) {
+    List<CatalogPieceOfFurniture> mergedFurniture = new ArrayList<CatalogPieceOfFurniture>(this.furniture.size() + sortedFurniture.size());
+    int [] indices = new int [sortedFurniture.size()];
+    int i = 0;
+    for (int j = 0; j < indices.length; j++) {
+      CatalogPieceOfFurniture piece = sortedFurniture.get(j);
+      piece.setCategory(this);
+      while (i < this.furniture.size()
+          && this.furniture.get(i).compareTo(piece) <= 0) {
+        mergedFurniture.add(this.furniture.get(i++));
+      }
+      indices [j] = mergedFurniture.size();
+      mergedFurniture.add(piece);
+    }
+    mergedFurniture.addAll(this.furniture.subList(i, this.furniture.size()));
+    this.furniture = mergedFurniture;
+    return indices;
+  }
+
+  /**
+   * Deletes the given furniture from this category in one pass.
+   * @param furniture the furniture to remove.
+   * @return the indices the deleted furniture had in this category, in ascending order.
+   * @throws IllegalArgumentException if one of the furniture doesn't exist in this category.
+   */
+  int [] deleteAll(Set<CatalogPieceOfFurniture> furniture) {
+    List<CatalogPieceOfFurniture> keptFurniture = new ArrayList<CatalogPieceOfFurniture>(this.furniture.size());
+    int [] indices = new int [furniture.size()];
+    int deletedCount = 0;
+    for (int i = 0; i < this.furniture.size(); i++) {
+      CatalogPieceOfFurniture piece = this.furniture.get(i);
+      if (furniture.contains(piece)) {
+        indices [deletedCount++] = i;
+      } else {
+        keptFurniture.add(piece);
+      }
+    }
+    if (deletedCount != indices.length) {
+      throw new IllegalArgumentException(
+          this.name + " doesn't contain all the deleted furniture");
+    }
+    // Use a new list to avoid conflicts in the list returned by getFurniture
+    this.furniture = keptFurniture;
+    return indices;
+  }
   
   /**
    * Returns <code>true</code> if this category and the one in parameter have the same name.
@@ -31,8 +31,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The home managed by the application with its furniture and walls.
@@ -93,6 +95,13 @@ public class Home implements Serializable, Cloneable {
   private transient CollectionChangeSupport<DimensionLine> dimensionLinesChangeSupport;
   private List<Label>                                 labels;
   private transient CollectionChangeSupport<Label>    labelsChangeSupport;
+  // Flags set when a view of the matching list was returned, and cleared once the list is copied
+  private transient boolean                           furnitureShared;
+  private transient boolean                           wallsShared;
+  private transient boolean                           roomsShared;
+  private transient boolean                           polylinesShared;
+  private transient boolean                           dimensionLinesShared;
+  private transient boolean                           labelsShared;
   private Camera                                      camera;
   private String                                      name;
   private final float                                 wallHeight;
@@ -771,6 +780,7 @@ public class Home implements Serializable, Cloneable {
    * This furniture in this list is always sorted in the index order they were added to home.
    */
   public List<HomePieceOfFurniture> getFurniture() {
+    this.furnitureShared = true;
     return Collections.unmodifiableList(this.furniture);
   }
 
@@ -794,8 +804,12 @@ public class Home implements Serializable, Cloneable {
    * @param index  the index at which the piece will be added
    */
   public void addPieceOfFurniture(HomePieceOfFurniture piece, int index) {
-    // Make a copy of the list to avoid conflicts in the list returned by getFurniture
-    this.furniture = new ArrayList<HomePieceOfFurniture>(this.furniture);
+    // Make a copy of the list to avoid conflicts in the list returned by getFurniture,
+    // only if this list was returned since last copy
+    if (this.furnitureShared) {
+      this.furniture = new ArrayList<HomePieceOfFurniture>(this.furniture);
+      this.furnitureShared = false;
+    }
     piece.setLevel(this.selectedLevel);
     this.furniture.add(index, piece);
     this.furnitureChangeSupport.fireCollectionChanged(piece, index, CollectionEvent.Type.ADD);
@@ -834,8 +848,12 @@ public class Home implements Serializable, Cloneable {
     if (index != -1
         || group != null) {
       piece.setLevel(null);
-      // Make a copy of the list to avoid conflicts in the list returned by getFurniture
-      this.furniture = new ArrayList<HomePieceOfFurniture>(this.furniture);
+      // Make a copy of the list to avoid conflicts in the list returned by getFurniture,
+      // only if this list was returned since last copy
+      if (this.furnitureShared) {
+        this.furniture = new ArrayList<HomePieceOfFurniture>(this.furniture);
+        this.furnitureShared = false;
+      }
       if (group != null) {
         group.deletePieceOfFurniture(piece);
         this.furnitureChangeSupport.fireCollectionChanged(piece, CollectionEvent.Type.DELETE);
@@ -943,6 +961,7 @@ public class Home implements Serializable, Cloneable {
    * Returns an unmodifiable collection of the rooms of this home.
    */
   public List<Room> getRooms() {
+    this.roomsShared = true;
     return Collections.unmodifiableList(this.rooms);
   }
 
@@ -968,8 +987,12 @@ public class Home implements Serializable, Cloneable {
    * @param index  the index at which the room will be added
    */
   public void addRoom(Room room, int index) {
-    // Make a copy of the list to avoid conflicts in the list returned by getRooms
-    this.rooms = new ArrayList<Room>(this.rooms);
+    // Make a copy of the list to avoid conflicts in the list returned by getRooms,
+    // only if this list was returned since last copy
+    if (this.roomsShared) {
+      this.rooms = new ArrayList<Room>(this.rooms);
+      this.roomsShared = false;
+    }
     this.rooms.add(index, room);
     room.setLevel(this.selectedLevel);
     this.roomsChangeSupport.fireCollectionChanged(room, index, CollectionEvent.Type.ADD);
@@ -989,8 +1012,12 @@ public class Home implements Serializable, Cloneable {
     int index = this.rooms.indexOf(room);
     if (index != -1) {
       room.setLevel(null);
-      // Make a copy of the list to avoid conflicts in the list returned by getRooms
-      this.rooms = new ArrayList<Room>(this.rooms);
+      // Make a copy of the list to avoid conflicts in the list returned by getRooms,
+      // only if this list was returned since last copy
+      if (this.roomsShared) {
+        this.rooms = new ArrayList<Room>(this.rooms);
+        this.roomsShared = false;
+      }
       this.rooms.remove(index);
       this.roomsChangeSupport.fireCollectionChanged(room, index, CollectionEvent.Type.DELETE);
     }
@@ -1016,6 +1043,7 @@ public class Home implements Serializable, Cloneable {
    * Returns an unmodifiable collection of the walls of this home.
    */
   public Collection<Wall> getWalls() {
+    this.wallsShared = true;
     return Collections.unmodifiableCollection(this.walls);
   }
 
@@ -1028,8 +1056,12 @@ public class Home implements Serializable, Cloneable {
    * @param wall  the wall to add
    */
   public void addWall(Wall wall) {
-    // Make a copy of the list to avoid conflicts in the list returned by getWalls
-    this.walls = new ArrayList<Wall>(this.walls);
+    // Make a copy of the list to avoid conflicts in the list returned by getWalls,
+    // only if this list was returned since last copy
+    if (this.wallsShared) {
+      this.walls = new ArrayList<Wall>(this.walls);
+      this.wallsShared = false;
+    }
     this.walls.add(wall);
     wall.setLevel(this.selectedLevel);
     this.wallsChangeSupport.fireCollectionChanged(wall, CollectionEvent.Type.ADD);
@@ -1048,7 +1080,7 @@ public class Home implements Serializable, Cloneable {
     //  Ensure selectedItems don't keep a reference to wall
     deselectItem(wall);
     // Detach any other wall attached to wall
-    for (Wall otherWall : getWalls()) {
+    for (Wall otherWall : this.walls) {
       if (wall.equals(otherWall.getWallAtStart())) {
         otherWall.setWallAtStart(null);
       } else if (wall.equals(otherWall.getWallAtEnd())) {
@@ -1058,8 +1090,12 @@ public class Home implements Serializable, Cloneable {
     int index = this.walls.indexOf(wall);
     if (index != -1) {
       wall.setLevel(null);
-      // Make a copy of the list to avoid conflicts in the list returned by getWalls
-      this.walls = new ArrayList<Wall>(this.walls);
+      // Make a copy of the list to avoid conflicts in the list returned by getWalls,
+      // only if this list was returned since last copy
+      if (this.wallsShared) {
+        this.walls = new ArrayList<Wall>(this.walls);
+        this.wallsShared = false;
+      }
       this.walls.remove(index);
       this.wallsChangeSupport.fireCollectionChanged(wall, CollectionEvent.Type.DELETE);
     }
@@ -1088,6 +1124,7 @@ public class Home implements Serializable, Cloneable {
    * @since 5.0
    */
   public List<Polyline> getPolylines() {
+    this.polylinesShared = true;
     return Collections.unmodifiableList(this.polylines);
   }
 
@@ -1115,8 +1152,12 @@ public class Home implements Serializable, Cloneable {
    * @since 5.0
    */
   public void addPolyline(Polyline polyline, int index) {
-    // Make a copy of the list to avoid conflicts in the list returned by getPolylines
-    this.polylines = new ArrayList<Polyline>(this.polylines);
+    // Make a copy of the list to avoid conflicts in the list returned by getPolylines,
+    // only if this list was returned since last copy
+    if (this.polylinesShared) {
+      this.polylines = new ArrayList<Polyline>(this.polylines);
+      this.polylinesShared = false;
+    }
     this.polylines.add(index, polyline);
     polyline.setLevel(this.selectedLevel);
     this.polylinesChangeSupport.fireCollectionChanged(polyline, CollectionEvent.Type.ADD);
@@ -1137,8 +1178,12 @@ public class Home implements Serializable, Cloneable {
     int index = this.polylines.indexOf(polyline);
     if (index != -1) {
       polyline.setLevel(null);
-      // Make a copy of the list to avoid conflicts in the list returned by getPolylines
-      this.polylines = new ArrayList<Polyline>(this.polylines);
+      // Make a copy of the list to avoid conflicts in the list returned by getPolylines,
+      // only if this list was returned since last copy
+      if (this.polylinesShared) {
+        this.polylines = new ArrayList<Polyline>(this.polylines);
+        this.polylinesShared = false;
+      }
       this.polylines.remove(index);
       this.polylinesChangeSupport.fireCollectionChanged(polyline, CollectionEvent.Type.DELETE);
     }
@@ -1164,6 +1209,7 @@ public class Home implements Serializable, Cloneable {
    * Returns an unmodifiable collection of the dimension lines of this home.
    */
   public Collection<DimensionLine> getDimensionLines() {
+    this.dimensionLinesShared = true;
     return Collections.unmodifiableCollection(this.dimensionLines);
   }
 
@@ -1177,8 +1223,12 @@ public class Home implements Serializable, Cloneable {
    * @param dimensionLine  the dimension line to add
    */
   public void addDimensionLine(DimensionLine dimensionLine) {
-    // Make a copy of the list to avoid conflicts in the list returned by getDimensionLines
-    this.dimensionLines = new ArrayList<DimensionLine>(this.dimensionLines);
+    // Make a copy of the list to avoid conflicts in the list returned by getDimensionLines,
+    // only if this list was returned since last copy
+    if (this.dimensionLinesShared) {
+      this.dimensionLines = new ArrayList<DimensionLine>(this.dimensionLines);
+      this.dimensionLinesShared = false;
+    }
     this.dimensionLines.add(dimensionLine);
     dimensionLine.setLevel(this.selectedLevel);
     this.dimensionLinesChangeSupport.fireCollectionChanged(dimensionLine, CollectionEvent.Type.ADD);
@@ -1199,8 +1249,12 @@ public class Home implements Serializable, Cloneable {
     int index = this.dimensionLines.indexOf(dimensionLine);
     if (index != -1) {
       dimensionLine.setLevel(null);
-      // Make a copy of the list to avoid conflicts in the list returned by getDimensionLines
-      this.dimensionLines = new ArrayList<DimensionLine>(this.dimensionLines);
+      // Make a copy of the list to avoid conflicts in the list returned by getDimensionLines,
+      // only if this list was returned since last copy
+      if (this.dimensionLinesShared) {
+        this.dimensionLines = new ArrayList<DimensionLine>(this.dimensionLines);
+        this.dimensionLinesShared = false;
+      }
       this.dimensionLines.remove(index);
       this.dimensionLinesChangeSupport.fireCollectionChanged(dimensionLine, CollectionEvent.Type.DELETE);
     }
@@ -1226,6 +1280,7 @@ public class Home implements Serializable, Cloneable {
    * Returns an unmodifiable collection of the labels of this home.
    */
   public Collection<Label> getLabels() {
+    this.labelsShared = true;
     return Collections.unmodifiableCollection(this.labels);
   }
 
@@ -1239,8 +1294,12 @@ public class Home implements Serializable, Cloneable {
    * @param label  the label to add
    */
   public void addLabel(Label label) {
-    // Make a copy of the list to avoid conflicts in the list returned by getLabels
-    this.labels = new ArrayList<Label>(this.labels);
+    // Make a copy of the list to avoid conflicts in the list returned by getLabels,
+    // only if this list was returned since last copy
+    if (this.labelsShared) {
+      this.labels = new ArrayList<Label>(this.labels);
+      this.labelsShared = false;
+    }
     this.labels.add(label);
     label.setLevel(this.selectedLevel);
     this.labelsChangeSupport.fireCollectionChanged(label, CollectionEvent.Type.ADD);
@@ -1260,8 +1319,12 @@ public class Home implements Serializable, Cloneable {
     int index = this.labels.indexOf(label);
     if (index != -1) {
       label.setLevel(null);
-      // Make a copy of the list to avoid conflicts in the list returned by getLabels
-      this.labels = new ArrayList<Label>(this.labels);
+      // Make a copy of the list to avoid conflicts in the list returned by getLabels,
+      // only if this list was returned since last copy
+      if (this.labelsShared) {
+        this.labels = new ArrayList<Label>(this.labels);
+        this.labelsShared = false;
+      }
       this.labels.remove(index);
       this.labelsChangeSupport.fireCollectionChanged(label, CollectionEvent.Type.DELETE);
     }
@@ -1279,7 +1342,7 @@ public class Home implements Serializable, Cloneable {
     addViewableItems(this.dimensionLines, items);
     addViewableItems(this.polylines, items);
     addViewableItems(this.labels, items);
-    for (HomePieceOfFurniture piece : getFurniture()) {
+    for (HomePieceOfFurniture piece : this.furniture) {
       if (piece.isVisible()
           && (piece.getLevel() == null
               || piece.getLevel().isViewable())) {
@@ -1324,7 +1387,7 @@ public class Home implements Serializable, Cloneable {
     homeItems.addAll(this.dimensionLines);
     homeItems.addAll(this.polylines);
     homeItems.addAll(this.labels);
-    for (HomePieceOfFurniture piece : getFurniture()) {
+    for (HomePieceOfFurniture piece : this.furniture) {
       homeItems.add(piece);
       if (piece instanceof HomeFurnitureGroup) {
         homeItems.addAll(((HomeFurnitureGroup)piece).getAllFurniture());
@@ -1835,27 +1898,32 @@ public class Home implements Serializable, Cloneable {
 
     // Deep copy selectable items
     destination.selectedItems = new ArrayList<Selectable>(source.selectedItems.size());
+    // Search selected items in a set to avoid a quadratic cost when many items are selected
+    Set<Selectable> sourceSelectedItems = new HashSet<Selectable>(source.selectedItems);
     destination.furniture = cloneSelectableItems(
-        source.furniture, source.selectedItems, destination.selectedItems);
-    destination.rooms = cloneSelectableItems(source.rooms, source.selectedItems, destination.selectedItems);
+        source.furniture, sourceSelectedItems, destination.selectedItems);
+    destination.rooms = cloneSelectableItems(source.rooms, sourceSelectedItems, destination.selectedItems);
     destination.dimensionLines = cloneSelectableItems(
-        source.dimensionLines, source.selectedItems, destination.selectedItems);
+        source.dimensionLines, sourceSelectedItems, destination.selectedItems);
     destination.polylines = cloneSelectableItems(
-        source.polylines, source.selectedItems, destination.selectedItems);
-    destination.labels = cloneSelectableItems(source.labels, source.selectedItems, destination.selectedItems);
+        source.polylines, sourceSelectedItems, destination.selectedItems);
+    destination.labels = cloneSelectableItems(source.labels, sourceSelectedItems, destination.selectedItems);
     // Deep copy walls
     destination.walls = Wall.clone(source.walls);
     for (int i = 0; i < source.walls.size(); i++) {
       Wall wall = source.walls.get(i);
-      if (source.selectedItems.contains(wall)) {
+      if (sourceSelectedItems.contains(wall)) {
         destination.selectedItems.add(destination.walls.get(i));
       }
     }
     // Clone levels and set the level of cloned objects
     destination.levels = new ArrayList<Level>();
     if (source.levels.size() > 0) {
+      Map<Level, Level> levelsClones = new HashMap<Level, Level>();
       for (Level level : source.levels) {
-        destination.levels.add(level.clone());
+        Level levelClone = level.clone();
+        destination.levels.add(levelClone);
+        levelsClones.put(level, levelClone);
       }
       for (int i = 0; i < source.furniture.size(); i++) {
         Level pieceLevel = source.furniture.get(i).getLevel();
@@ -1863,41 +1931,41 @@ public class Home implements Serializable, Cloneable {
           // As soon as there's more than one level, every object is supposed to have its level set
           // but as level can still be null for a undetermined reason, prefer to keep level
           // to null in the cloned object and having errors further than throwing exception here
-          destination.furniture.get(i).setLevel(destination.levels.get(source.levels.indexOf(pieceLevel)));
+          destination.furniture.get(i).setLevel(levelsClones.get(pieceLevel));
         }
       }
       for (int i = 0; i < source.rooms.size(); i++) {
         Level roomLevel = source.rooms.get(i).getLevel();
         if (roomLevel != null) {
-          destination.rooms.get(i).setLevel(destination.levels.get(source.levels.indexOf(roomLevel)));
+          destination.rooms.get(i).setLevel(levelsClones.get(roomLevel));
         }
       }
       for (int i = 0; i < source.dimensionLines.size(); i++) {
         Level dimensionLineLevel = source.dimensionLines.get(i).getLevel();
         if (dimensionLineLevel != null) {
-          destination.dimensionLines.get(i).setLevel(destination.levels.get(source.levels.indexOf(dimensionLineLevel)));
+          destination.dimensionLines.get(i).setLevel(levelsClones.get(dimensionLineLevel));
         }
       }
       for (int i = 0; i < source.polylines.size(); i++) {
         Level polylineLevel = source.polylines.get(i).getLevel();
         if (polylineLevel != null) {
-          destination.polylines.get(i).setLevel(destination.levels.get(source.levels.indexOf(polylineLevel)));
+          destination.polylines.get(i).setLevel(levelsClones.get(polylineLevel));
         }
       }
       for (int i = 0; i < source.labels.size(); i++) {
         Level labelLevel = source.labels.get(i).getLevel();
         if (labelLevel != null) {
-          destination.labels.get(i).setLevel(destination.levels.get(source.levels.indexOf(labelLevel)));
+          destination.labels.get(i).setLevel(levelsClones.get(labelLevel));
         }
       }
       for (int i = 0; i < source.walls.size(); i++) {
         Level wallLevel = source.walls.get(i).getLevel();
         if (wallLevel != null) {
-          destination.walls.get(i).setLevel(destination.levels.get(source.levels.indexOf(wallLevel)));
+          destination.walls.get(i).setLevel(levelsClones.get(wallLevel));
         }
       }
       if (source.selectedLevel != null) {
-        destination.selectedLevel = destination.levels.get(source.levels.indexOf(source.selectedLevel));
+        destination.selectedLevel = levelsClones.get(source.selectedLevel);
       }
     }
     // Copy cameras
@@ -1931,7 +1999,7 @@ public class Home implements Serializable, Cloneable {
    */
   @SuppressWarnings("unchecked")
   private static <T extends Selectable> List<T> cloneSelectableItems(List<T> source,
-                                                                     List<Selectable> sourceSelectedItems,
+                                                                     Set<Selectable> sourceSelectedItems,
                                                                      List<Selectable> destinationSelectedItems) {
     List<T> destination = new ArrayList<T>(source.size());
     for (T item : source) {
@@ -20,7 +20,6 @@
 package com.eteks.sweethome3d.model;
 
 import java.awt.geom.AffineTransform;
-import java.awt.geom.GeneralPath;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.beans.PropertyChangeEvent;
@@ -31,7 +30,9 @@ import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A group of furniture of furniture.
@@ -58,6 +59,9 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
   // private List<HomeTexture>       furnitureDefaultTextures;
 
   private transient PropertyChangeListener furnitureListener;
+  private transient boolean                updatingFurniture;
+  private transient Map<HomePieceOfFurniture, FurnitureBounds> furnitureBounds;
+  private transient FurnitureBounds        bounds;
 
   /**
    * Creates a group from the given <code>furniture</code> list.
@@ -152,26 +156,8 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
   private void updateLocationAndSize(List<HomePieceOfFurniture> furniture,
                                      float angle,
                                      boolean init) {
-    // Update abilities of the group according to its furniture
-    this.resizable = true;
-    this.deformable = true;
-    this.texturable = true;
-    this.doorOrWindow = true;
-    this.currency = furniture.get(0).getCurrency();
-    for (HomePieceOfFurniture piece : furniture) {
-      this.resizable &= piece.isResizable();
-      this.deformable &= piece.isDeformable();
-      this.texturable &= piece.isTexturable();
-      this.doorOrWindow &= piece.isDoorOrWindow();
-      if (this.currency != null) {
-        if (piece.getCurrency() == null
-            || !piece.getCurrency().equals(this.currency)) {
-          this.currency = null;
-        }
-      }
-    }
+    updateAbilities(furniture);
 
-    float elevation = Float.MAX_VALUE;
     if (init) {
       // Search the lowest level elevation among grouped furniture
       Level minLevel = null;
@@ -185,53 +171,78 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
       }
       for (HomePieceOfFurniture piece : furniture) {
         if (piece.getLevel() != null) {
-          elevation = Math.min(elevation, piece.getGroundElevation() - minLevel.getElevation());
           // Reset piece level and elevation
           piece.setElevation(piece.getGroundElevation() - minLevel.getElevation());
           piece.setLevel(null);
-        } else {
-          elevation = Math.min(elevation, piece.getElevation());
         }
       }
-    } else {
-      for (HomePieceOfFurniture piece : furniture) {
-        elevation = Math.min(elevation, piece.getElevation());
-      }
     }
 
-    float height = 0;
-    float dropOnTopElevation = -1;
+    // Compute the bounds of each piece in the coordinates system of the group
+    AffineTransform rotation = AffineTransform.getRotateInstance(-angle);
+    this.furnitureBounds = new IdentityHashMap<HomePieceOfFurniture, FurnitureBounds>(furniture.size());
     for (HomePieceOfFurniture piece : furniture) {
-      height = Math.max(height, piece.getElevation() + piece.getHeightInPlan());
-      if (piece.getDropOnTopElevation() >= 0) {
-        dropOnTopElevation = Math.max(dropOnTopElevation,
-            piece.getElevation() + piece.getHeightInPlan() * piece.getDropOnTopElevation());
-      }
+      this.furnitureBounds.put(piece, new FurnitureBounds(piece, rotation));
     }
-    height -= elevation;
-    dropOnTopElevation -= elevation;
+    this.bounds = new FurnitureBounds(furniture, this.furnitureBounds);
+    updateLocationAndSize(angle);
+  }
 
-    // Search the size of the furniture group
-    AffineTransform rotation = AffineTransform.getRotateInstance(-angle);
-    Rectangle2D unrotatedBoundingRectangle = null;
-    for (HomePieceOfFurniture piece : getFurnitureWithoutGroups(furniture)) {
-      GeneralPath pieceShape = new GeneralPath();
-      float [][] points = piece.getPoints();
-      pieceShape.moveTo(points [0][0], points [0][1]);
-      for (int i = 1; i < points.length; i++) {
-        pieceShape.lineTo(points [i][0], points [i][1]);
-      }
-      pieceShape.closePath();
-      if (unrotatedBoundingRectangle == null) {
-        unrotatedBoundingRectangle = pieceShape.createTransformedShape(rotation).getBounds2D();
+  /**
+   * Updates the location and size of this group after a change of the given <code>piece</code>,
+   * by computing only the bounds of this piece when possible.
+   */
+  private void updateLocationAndSize(HomePieceOfFurniture piece) {
+    if (this.furnitureBounds == null) {
+      updateLocationAndSize(this.furniture, getAngle(), false);
+    } else {
+      FurnitureBounds pieceBounds = new FurnitureBounds(piece, AffineTransform.getRotateInstance(-getAngle()));
+      FurnitureBounds previousPieceBounds = this.furnitureBounds.put(piece, pieceBounds);
+      if (previousPieceBounds != null
+          && this.bounds.isReplaceable(previousPieceBounds, pieceBounds)) {
+        this.bounds.add(pieceBounds);
       } else {
-        unrotatedBoundingRectangle.add(pieceShape.createTransformedShape(rotation).getBounds2D());
+        this.bounds = new FurnitureBounds(this.furniture, this.furnitureBounds);
+      }
+      updateLocationAndSize(getAngle());
+    }
+  }
+
+  /**
+   * Updates the abilities of this group according to its furniture.
+   */
+  private void updateAbilities(List<HomePieceOfFurniture> furniture) {
+    this.resizable = true;
+    this.deformable = true;
+    this.texturable = true;
+    this.doorOrWindow = true;
+    this.currency = furniture.get(0).getCurrency();
+    for (HomePieceOfFurniture piece : furniture) {
+      this.resizable &= piece.isResizable();
+      this.deformable &= piece.isDeformable();
+      this.texturable &= piece.isTexturable();
+      this.doorOrWindow &= piece.isDoorOrWindow();
+      if (this.currency != null) {
+        if (piece.getCurrency() == null
+            || !piece.getCurrency().equals(this.currency)) {
+          this.currency = null;
+        }
       }
     }
+  }
+
+  /**
+   * Updates the location and size of this group from the bounds of its furniture.
+   */
+  private void updateLocationAndSize(float angle) {
+    float elevation = this.bounds.elevation;
+    float height = this.bounds.top - elevation;
+    float dropOnTopElevation = this.bounds.dropOnTopElevation - elevation;
+    Rectangle2D unrotatedBoundingRectangle = new Rectangle2D.Float(this.bounds.xMin, this.bounds.yMin,
+        this.bounds.xMax - this.bounds.xMin, this.bounds.yMax - this.bounds.yMin);
     // Search center of the group
     Point2D center = new Point2D.Float((float)unrotatedBoundingRectangle.getCenterX(), (float)unrotatedBoundingRectangle.getCenterY());
-    rotation.setToRotation(angle);
-    rotation.transform(center, center);
+    AffineTransform.getRotateInstance(angle).transform(center, center);
 
     if (this.resizable) {
       float width = (float)unrotatedBoundingRectangle.getWidth();
@@ -281,22 +292,129 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
       final HomeFurnitureGroup group = this.group.get();
       if (group == null) {
         ((HomePieceOfFurniture)ev.getSource()).removePropertyChangeListener(this);
-      } else if (HomePieceOfFurniture.Property.X.name().equals(ev.getPropertyName())
-          || HomePieceOfFurniture.Property.Y.name().equals(ev.getPropertyName())
-          || HomePieceOfFurniture.Property.ELEVATION.name().equals(ev.getPropertyName())
-          || HomePieceOfFurniture.Property.ANGLE.name().equals(ev.getPropertyName())
-          || HomePieceOfFurniture.Property.WIDTH_IN_PLAN.name().equals(ev.getPropertyName())
-          || HomePieceOfFurniture.Property.DEPTH_IN_PLAN.name().equals(ev.getPropertyName())
-          || HomePieceOfFurniture.Property.HEIGHT_IN_PLAN.name().equals(ev.getPropertyName())) {
-        group.updateLocationAndSize(group.getFurniture(), group.getAngle(), false);
+      } else if (!group.updatingFurniture
+          && (HomePieceOfFurniture.Property.X.name().equals(ev.getPropertyName())
+              || HomePieceOfFurniture.Property.Y.name().equals(ev.getPropertyName())
+              || HomePieceOfFurniture.Property.ELEVATION.name().equals(ev.getPropertyName())
+              || HomePieceOfFurniture.Property.ANGLE.name().equals(ev.getPropertyName())
+              || HomePieceOfFurniture.Property.WIDTH_IN_PLAN.name().equals(ev.getPropertyName())
+              || HomePieceOfFurniture.Property.DEPTH_IN_PLAN.name().equals(ev.getPropertyName())
+              || HomePieceOfFurniture.Property.HEIGHT_IN_PLAN.name().equals(ev.getPropertyName()))) {
+        group.updateLocationAndSize((HomePieceOfFurniture)ev.getSource());
+      }
+    }
+  }
+
+  /**
+   * Bounds of a piece or a group of pieces, in the coordinates system of a furniture group.
+   */
+  private static class FurnitureBounds {
+    private float xMin;
+    private float yMin;
+    private float xMax;
+    private float yMax;
+    private float elevation;
+    private float top;
+    private float dropOnTopElevation;
+
+    /**
+     * Creates the bounds of the given <code>piece</code> once rotated with <code>rotation</code>.
+     */
+    public FurnitureBounds(HomePieceOfFurniture piece, AffineTransform rotation) {
+      this.xMin = Float.POSITIVE_INFINITY;
+      this.yMin = Float.POSITIVE_INFINITY;
+      this.xMax = Float.NEGATIVE_INFINITY;
+      this.yMax = Float.NEGATIVE_INFINITY;
+      this.elevation = piece.getElevation();
+      this.top = piece.getElevation() + piece.getHeightInPlan();
+      this.dropOnTopElevation = piece.getDropOnTopElevation() >= 0
+          ? piece.getElevation() + piece.getHeightInPlan() * piece.getDropOnTopElevation()
+          : -1;
+      if (piece instanceof HomeFurnitureGroup) {
+        // Use the points of the pieces of a sub group which may have a different angle
+        for (HomePieceOfFurniture childPiece : getFurnitureWithoutGroups(((HomeFurnitureGroup)piece).getFurniture())) {
+          addPoints(childPiece.getPoints(), rotation);
+        }
+      } else {
+        addPoints(piece.getPoints(), rotation);
+      }
+    }
+
+    /**
+     * Creates the bounds containing the bounds of the given <code>furniture</code>.
+     */
+    public FurnitureBounds(List<HomePieceOfFurniture> furniture,
+                           Map<HomePieceOfFurniture, FurnitureBounds> furnitureBounds) {
+      this.xMin = Float.POSITIVE_INFINITY;
+      this.yMin = Float.POSITIVE_INFINITY;
+      this.xMax = Float.NEGATIVE_INFINITY;
+      this.yMax = Float.NEGATIVE_INFINITY;
+      this.elevation = Float.MAX_VALUE;
+      this.top = 0;
+      this.dropOnTopElevation = -1;
+      for (HomePieceOfFurniture piece : furniture) {
+        add(furnitureBounds.get(piece));
       }
     }
+
+    private void addPoints(float [][] points, AffineTransform rotation) {
+      float [] rotatedPoint = new float [2];
+      for (float [] point : points) {
+        rotation.transform(point, 0, rotatedPoint, 0, 1);
+        this.xMin = Math.min(this.xMin, rotatedPoint [0]);
+        this.yMin = Math.min(this.yMin, rotatedPoint [1]);
+        this.xMax = Math.max(this.xMax, rotatedPoint [0]);
+        this.yMax = Math.max(this.yMax, rotatedPoint [1]);
+      }
+    }
+
+    /**
+     * Enlarges these bounds to include the given <code>bounds</code>.
+     */
+    public void add(FurnitureBounds bounds) {
+      this.xMin = Math.min(this.xMin, bounds.xMin);
+      this.yMin = Math.min(this.yMin, bounds.yMin);
+      this.xMax = Math.max(this.xMax, bounds.xMax);
+      this.yMax = Math.max(this.yMax, bounds.yMax);
+      this.elevation = Math.min(this.elevation, bounds.elevation);
+      this.top = Math.max(this.top, bounds.top);
+      this.dropOnTopElevation = Math.max(this.dropOnTopElevation, bounds.dropOnTopElevation);
+    }
+
+    /**
+     * Returns <code>true</code> if the given bounds of a piece define one of the limits of these bounds.
+     */
+    public boolean isAtLimit(FurnitureBounds bounds) {
+      return bounds.xMin <= this.xMin
+          || bounds.yMin <= this.yMin
+          || bounds.xMax >= this.xMax
+          || bounds.yMax >= this.yMax
+          || bounds.elevation <= this.elevation
+          || bounds.top >= this.top
+          || bounds.dropOnTopElevation >= this.dropOnTopElevation;
+    }
+
+    /**
+     * Returns <code>true</code> if these bounds can be updated by simply adding <code>newBounds</code>
+     * once the bounds <code>oldBounds</code> of one of their pieces were replaced by <code>newBounds</code>.
+     * This isn't possible when <code>oldBounds</code> were at a limit and <code>newBounds</code> move away from it.
+     */
+    public boolean isReplaceable(FurnitureBounds oldBounds, FurnitureBounds newBounds) {
+      return !(oldBounds.xMin <= this.xMin && newBounds.xMin > oldBounds.xMin
+          || oldBounds.yMin <= this.yMin && newBounds.yMin > oldBounds.yMin
+          || oldBounds.xMax >= this.xMax && newBounds.xMax < oldBounds.xMax
+          || oldBounds.yMax >= this.yMax && newBounds.yMax < oldBounds.yMax
+          || oldBounds.elevation <= this.elevation && newBounds.elevation > oldBounds.elevation
+          || oldBounds.top >= this.top && newBounds.top < oldBounds.top
+          || oldBounds.dropOnTopElevation >= this.dropOnTopElevation
+             && newBounds.dropOnTopElevation < oldBounds.dropOnTopElevation);
+    }
   }
 
   /**
    * Returns all the pieces of the given <code>furniture</code> list.
    */
-  private List<HomePieceOfFurniture> getFurnitureWithoutGroups(List<HomePieceOfFurniture> furniture) {
+  private static List<HomePieceOfFurniture> getFurnitureWithoutGroups(List<HomePieceOfFurniture> furniture) {
     List<HomePieceOfFurniture> pieces = new ArrayList<HomePieceOfFurniture>();
     for (HomePieceOfFurniture piece : furniture) {
       if (piece instanceof HomeFurnitureGroup) {
@@ -338,7 +456,16 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
     piece.setLevel(getLevel());
     this.furniture.add(index, piece);
     piece.addPropertyChangeListener(this.furnitureListener);
-    updateLocationAndSize(this.furniture, getAngle(), false);
+    if (this.furnitureBounds == null) {
+      updateLocationAndSize(this.furniture, getAngle(), false);
+    } else {
+      // Enlarge group bounds with the ones of the added piece
+      updateAbilities(this.furniture);
+      FurnitureBounds pieceBounds = new FurnitureBounds(piece, AffineTransform.getRotateInstance(-getAngle()));
+      this.furnitureBounds.put(piece, pieceBounds);
+      this.bounds.add(pieceBounds);
+      updateLocationAndSize(getAngle());
+    }
   }
 
   /**
@@ -354,7 +481,16 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
         // Make a copy of the list to avoid conflicts in the list returned by getFurniture
         this.furniture = new ArrayList<HomePieceOfFurniture>(this.furniture);
         this.furniture.remove(index);
-        updateLocationAndSize(this.furniture, getAngle(), false);
+        if (this.furnitureBounds == null) {
+          updateLocationAndSize(this.furniture, getAngle(), false);
+        } else {
+          updateAbilities(this.furniture);
+          FurnitureBounds pieceBounds = this.furnitureBounds.remove(piece);
+          if (this.bounds.isAtLimit(pieceBounds)) {
+            this.bounds = new FurnitureBounds(this.furniture, this.furnitureBounds);
+          }
+          updateLocationAndSize(getAngle());
+        }
       } else {
         throw new IllegalStateException("Group can't be empty");
       }
@@ -850,15 +986,16 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
       float angleDelta = angle - getAngle();
       double cosAngleDelta = Math.cos(angleDelta);
       double sinAngleDelta = Math.sin(angleDelta);
+      this.updatingFurniture = true;
       for (HomePieceOfFurniture piece : this.furniture) {
-        piece.removePropertyChangeListener(this.furnitureListener);
         piece.setAngle(piece.getAngle() + angleDelta);
         float newX = getX() + (float)((piece.getX() - getX()) * cosAngleDelta - (piece.getY() - getY()) * sinAngleDelta);
         float newY = getY() + (float)((piece.getX() - getX()) * sinAngleDelta + (piece.getY() - getY()) * cosAngleDelta);
         piece.setX(newX);
         piece.setY(newY);
-        piece.addPropertyChangeListener(this.furnitureListener);
       }
+      this.updatingFurniture = false;
+      this.furnitureBounds = null;
       super.setAngle(angle);
     }
   }
@@ -870,11 +1007,12 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
   public void setX(float x) {
     if (x != getX()) {
       float dx = x - getX();
+      this.updatingFurniture = true;
       for (HomePieceOfFurniture piece : this.furniture) {
-        piece.removePropertyChangeListener(this.furnitureListener);
         piece.setX(piece.getX() + dx);
-        piece.addPropertyChangeListener(this.furnitureListener);
       }
+      this.updatingFurniture = false;
+      this.furnitureBounds = null;
       super.setX(x);
     }
   }
@@ -886,11 +1024,12 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
   public void setY(float y) {
     if (y != getY()) {
       float dy = y - getY();
+      this.updatingFurniture = true;
       for (HomePieceOfFurniture piece : this.furniture) {
-        piece.removePropertyChangeListener(this.furnitureListener);
         piece.setY(piece.getY() + dy);
-        piece.addPropertyChangeListener(this.furnitureListener);
       }
+      this.updatingFurniture = false;
+      this.furnitureBounds = null;
       super.setY(y);
     }
   }
@@ -904,8 +1043,8 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
     if (width != getWidth()) {
       float widthFactor = width / getWidth();
       float angle = getAngle();
+      this.updatingFurniture = true;
       for (HomePieceOfFurniture piece : this.furniture) {
-        piece.removePropertyChangeListener(this.furnitureListener);
         float angleDelta = piece.getAngle() - angle;
         float pieceWidth = piece.getWidth();
         float pieceDepth = piece.getDepth();
@@ -921,8 +1060,9 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
         // Rotate piece back to its angle
         piece.setX(getX() + (float)((newX - getX()) * cosAngle - (newY - getY()) * sinAngle));
         piece.setY(getY() + (float)((newX - getX()) * sinAngle + (newY - getY()) * cosAngle));
-        piece.addPropertyChangeListener(this.furnitureListener);
       }
+      this.updatingFurniture = false;
+      this.furnitureBounds = null;
       super.setWidth(width);
     }
   }
@@ -936,8 +1076,8 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
     if (depth != getDepth()) {
       float depthFactor = depth / getDepth();
       float angle = getAngle();
+      this.updatingFurniture = true;
       for (HomePieceOfFurniture piece : this.furniture) {
-        piece.removePropertyChangeListener(this.furnitureListener);
         float angleDelta = piece.getAngle() - angle;
         float pieceWidth = piece.getWidth();
         float pieceDepth = piece.getDepth();
@@ -953,8 +1093,9 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
         // Rotate piece back to its angle
         piece.setX(getX() + (float)((newX - getX()) * cosAngle - (newY - getY()) * sinAngle));
         piece.setY(getY() + (float)((newX - getX()) * sinAngle + (newY - getY()) * cosAngle));
-        piece.addPropertyChangeListener(this.furnitureListener);
       }
+      this.updatingFurniture = false;
+      this.furnitureBounds = null;
       super.setDepth(depth);
     }
   }
@@ -967,13 +1108,14 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
   public void setHeight(float height) {
     if (height != getHeight()) {
       float heightFactor = height / getHeight();
+      this.updatingFurniture = true;
       for (HomePieceOfFurniture piece : this.furniture) {
-        piece.removePropertyChangeListener(this.furnitureListener);
         piece.setHeight(piece.getHeight() * heightFactor);
         piece.setElevation(getElevation()
             + (piece.getElevation() - getElevation()) * heightFactor);
-        piece.addPropertyChangeListener(this.furnitureListener);
       }
+      this.updatingFurniture = false;
+      this.furnitureBounds = null;
       super.setHeight(height);
     }
   }
@@ -985,8 +1127,8 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
   @Override
   public void scale(float scale) {
     float angle = getAngle();
+    this.updatingFurniture = true;
     for (HomePieceOfFurniture piece : this.furniture) {
-      piece.removePropertyChangeListener(this.furnitureListener);
       piece.setWidth(piece.getWidth() * scale);
       piece.setDepth(piece.getDepth() * scale);
       piece.setHeight(piece.getHeight() * scale);
@@ -1002,8 +1144,9 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
       piece.setX(getX() + (float)((newX - getX()) * cosAngle - (newY - getY()) * sinAngle));
       piece.setY(getY() + (float)((newX - getX()) * sinAngle + (newY - getY()) * cosAngle));
       piece.setElevation(getElevation() + (piece.getElevation() - getElevation()) * scale);
-      piece.addPropertyChangeListener(this.furnitureListener);
     }
+    this.updatingFurniture = false;
+    this.furnitureBounds = null;
     super.setWidth(getWidth() * scale);
     super.setDepth(getDepth() * scale);
     super.setHeight(getHeight() * scale);
@@ -1016,11 +1159,12 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
   public void setElevation(float elevation) {
     if (elevation != getElevation()) {
       float elevationDelta = elevation - getElevation();
+      this.updatingFurniture = true;
       for (HomePieceOfFurniture piece : this.furniture) {
-        piece.removePropertyChangeListener(this.furnitureListener);
         piece.setElevation(piece.getElevation() + elevationDelta);
-        piece.addPropertyChangeListener(this.furnitureListener);
       }
+      this.updatingFurniture = false;
+      this.furnitureBounds = null;
       super.setElevation(elevation);
     }
   }
@@ -1032,8 +1176,8 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
   public void setModelMirrored(boolean modelMirrored) {
     if (modelMirrored != isModelMirrored()) {
       float angle = getAngle();
+      this.updatingFurniture = true;
       for (HomePieceOfFurniture piece : this.furniture) {
-        piece.removePropertyChangeListener(this.furnitureListener);
         piece.setModelMirrored(!piece.isModelMirrored());
         // Rotate piece to angle 0
         double cosAngle = Math.cos(angle);
@@ -1045,8 +1189,9 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
         // Rotate piece back to its angle
         piece.setX(getX() + (float)((newX - getX()) * cosAngle - (newY - getY()) * sinAngle));
         piece.setY(getY() + (float)((newX - getX()) * sinAngle + (newY - getY()) * cosAngle));
-        piece.addPropertyChangeListener(this.furnitureListener);
       }
+      this.updatingFurniture = false;
+      this.furnitureBounds = null;
       super.setModelMirrored(modelMirrored);
     }
   }
@@ -1137,6 +1282,9 @@ public class HomeFurnitureGroup extends HomePieceOfFurniture {
       clone.furniture.add(piece.clone());
     }
     clone.furniture = Collections.unmodifiableList(clone.furniture);
+    clone.updatingFurniture = false;
+    clone.furnitureBounds = null;
+    clone.bounds = null;
     clone.addFurnitureListener();
     return clone;
   }
@@ -21,7 +21,11 @@ package com.eteks.sweethome3d.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Textures catalog.
@@ -91,6 +95,36 @@ public class TexturesCatalog {
         category.getIndexOfTexture(texture), CollectionEvent.Type.ADD);
   }
 
+  /**
+   * Adds the given <code>textures</code> of a given <code>category</code> to this catalog.
+   * The textures are merged at once in the category, then textures listeners added to this catalog
+   * receive a {@link CollectionListener#collectionChanged(CollectionEvent) collectionChanged}
+   * notification for each of them, in the order of their index in the category.
+   * @param category the category of the textures.
+   * @param textures the textures to add.
+   * @since 6.4
+   */
+  public void addAll(TexturesCategory category, List<CatalogTexture> textures) {
+    if (textures.isEmpty()) {
+      return;
+    }
+    List<CatalogTexture> sortedTextures = new ArrayList<CatalogTexture>(textures);
+    Collections.sort(sortedTextures);
+    int index = Collections.binarySearch(this.categories, category);
+    if (index < 0) {
+      // Add first texture alone to notify listeners of the new category
+      add(category, sortedTextures.get(0));
+      category = this.categories.get(-index - 1);
+      sortedTextures = sortedTextures.subList(1, sortedTextures.size());
+    } else {
+      category = this.categories.get(index);
+    }
+    int [] indices = category.addAll(sortedTextures);
+    for (int i = 0; i < indices.length; i++) {
+      this.texturesChangeSupport.fireCollectionChanged(sortedTextures.get(i), indices [i], CollectionEvent.Type.ADD);
+    }
+  }
+
   /**
    * Deletes the <code>texture</code> from this catalog.
    * If then texture category is empty, it will be removed from the categories of this catalog. 
@@ -119,4 +153,51 @@ public class TexturesCatalog {
 
     throw new IllegalArgumentException("catalog doesn't contain texture " + texture.getName());
   }
+
+  /**
+   * Deletes the given <code>textures</code> from this catalog.
+   * The textures are removed at once from each of their categories and the emptied categories
+   * are removed from this catalog. Then textures listeners added to this catalog receive a
+   * {@link CollectionListener#collectionChanged(CollectionEvent) collectionChanged}
+   * notification for each deleted texture, in the descending order of their index in their category.
+   * @param textures textures of this catalog.
+   * @throws IllegalArgumentException if one of the textures doesn't belong to this catalog.
+   * @since 6.4
+   */
+  public void deleteAll(List<CatalogTexture> textures) {
+    Map<TexturesCategory, Set<CatalogTexture>> categoriesTextures = new LinkedHashMap<TexturesCategory, Set<CatalogTexture>>();
+    for (CatalogTexture texture : textures) {
+      TexturesCategory category = texture.getCategory();
+      if (category == null) {
+        throw new IllegalArgumentException("catalog doesn't contain texture " + texture.getName());
+      }
+      Set<CatalogTexture> categoryTextures = categoriesTextures.get(category);
+      if (categoryTextures == null) {
+        categoryTextures = new HashSet<CatalogTexture>();
+        categoriesTextures.put(category, categoryTextures);
+      }
+      categoryTextures.add(texture);
+    }
+
+    for (Map.Entry<TexturesCategory, Set<CatalogTexture>> entry : categoriesTextures.entrySet()) {
+      TexturesCategory category = entry.getKey();
+      Set<CatalogTexture> categoryTextures = entry.getValue();
+      CatalogTexture lastTexture = null;
+      if (categoryTextures.size() == category.getTexturesCount()) {
+        // Keep the first texture of an emptied category to delete it last
+        // and notify listeners of the category removal
+        lastTexture = category.getTexture(0);
+        categoryTextures.remove(lastTexture);
+      }
+      List<CatalogTexture> categoryTexturesBeforeDeletion = category.getTextures();
+      int [] indices = category.deleteAll(categoryTextures);
+      for (int i = indices.length - 1; i >= 0; i--) {
+        this.texturesChangeSupport.fireCollectionChanged(categoryTexturesBeforeDeletion.get(indices [i]),
+            indices [i], CollectionEvent.Type.DELETE);
+      }
+      if (lastTexture != null) {
+        delete(lastTexture);
+      }
+    }
+  }
 }
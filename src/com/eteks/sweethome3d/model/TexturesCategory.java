@@ -23,6 +23,7 @@ import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Category of textures.
@@ -108,6 +109,57 @@ public class TexturesCategory implements Comparable<TexturesCategory> {
     this.textures = new ArrayList<CatalogTexture>(this.textures);
     this.textures.remove(textureIndex);
   }
+
+  /**
+   * Adds the given sorted textures to this category in one pass.
+   * @param sortedTextures textures sorted in their natural order.
+   * @return the indices of the added textures in this category.
+   */
+  int [] addAll(List<CatalogTexture> sortedTextures) {
+    List<CatalogTexture> mergedTextures = new ArrayList<CatalogTexture>(this.textures.size() + sortedTextures.size());
+    int [] indices = new int [sortedTextures.size()];
+    int i = 0;
+    for (int j = 0; j < indices.length; j++) {
+      CatalogTexture texture = sortedTextures.get(j);
+      texture.setCategory(this);
+      while (i < this.textures.size()
+          && this.textures.get(i).compareTo(texture) <= 0) {
+        mergedTextures.add(this.textures.get(i++));
+      }
+      indices [j] = mergedTextures.size();
+      mergedTextures.add(texture);
+    }
+    mergedTextures.addAll(this.textures.subList(i, this.textures.size()));
+    this.textures = mergedTextures;
+    return indices;
+  }
+
+  /**
+   * Deletes the given textures from this category in one pass.
+   * @param textures the textures to remove.
+   * @return the indices the deleted textures had in this category, in ascending order.
+   * @throws IllegalArgumentException if one of the textures doesn't exist in this category.
+   */
+  int [] deleteAll(Set<CatalogTexture> textures) {
+    List<CatalogTexture> keptTextures = new ArrayList<CatalogTexture>(this.textures.size());
+    int [] indices = new int [textures.size()];
+    int deletedCount = 0;
+    for (int i = 0; i < this.textures.size(); i++) {
+      CatalogTexture texture = this.textures.get(i);
+      if (textures.contains(texture)) {
+        indices [deletedCount++] = i;
+      } else {
+        keptTextures.add(texture);
+      }
+    }
+    if (deletedCount != indices.length) {
+      throw new IllegalArgumentException(
+          this.name + " doesn't contain all the deleted textures");
+    }
+    // Use a new list to avoid conflicts in the list returned by getTextures
+    this.textures = keptTextures;
+    return indices;
+  }
   
   /**
    * Returns true if this category and the one in parameter have the same name.
@@ -25,7 +25,9 @@ import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A wall of a home plan.
@@ -772,18 +774,27 @@ public class Wall extends HomeObject implements Selectable, Elevatable {
    * @since 5.0
    */
   public float [][] getPoints(boolean includeBaseboards) {
+    return clonePoints(getUnclonedPoints(includeBaseboards));
+  }
+
+  /**
+   * Returns the cached points of this wall possibly including its baseboards.
+   * The returned array is shared and must be used only to read the points of this wall,
+   * avoiding to allocate a copy of them at each call during hit tests.
+   */
+  private float [][] getUnclonedPoints(boolean includeBaseboards) {
     if (includeBaseboards
         && (this.leftSideBaseboard != null
             || this.rightSideBaseboard != null)) {
       if (this.pointsIncludingBaseboardsCache == null) {
         this.pointsIncludingBaseboardsCache = getShapePoints(true);
       }
-      return clonePoints(this.pointsIncludingBaseboardsCache);
+      return this.pointsIncludingBaseboardsCache;
     } else {
       if (this.pointsCache == null) {
         this.pointsCache = getShapePoints(false);
       }
-      return clonePoints(this.pointsCache);
+      return this.pointsCache;
     }
   }
 
@@ -1111,7 +1122,7 @@ public class Wall extends HomeObject implements Selectable, Elevatable {
    * with a given <code>margin</code>.
    */
   public boolean isMiddlePointAt(float x, float y, float margin) {
-    float [][] wallPoints = getPoints();
+    float [][] wallPoints = getUnclonedPoints(false);
     int leftSideMiddlePointIndex = wallPoints.length / 4;
     int rightSideMiddlePointIndex = wallPoints.length - 1 - leftSideMiddlePointIndex;
     Line2D middleLine = wallPoints.length % 4 == 0
@@ -1130,7 +1141,7 @@ public class Wall extends HomeObject implements Selectable, Elevatable {
    * with a given <code>margin</code> around the wall start line.
    */
   public boolean containsWallStartAt(float x, float y, float margin) {
-    float [][] wallPoints = getPoints();
+    float [][] wallPoints = getUnclonedPoints(false);
     Line2D startLine = new Line2D.Float(wallPoints [0][0], wallPoints [0][1],
         wallPoints [wallPoints.length - 1][0], wallPoints [wallPoints.length - 1][1]);
     return containsShapeAtWithMargin(startLine, x, y, margin);
@@ -1142,7 +1153,7 @@ public class Wall extends HomeObject implements Selectable, Elevatable {
    * with a given <code>margin</code> around the wall end line.
    */
   public boolean containsWallEndAt(float x, float y, float margin) {
-    float [][] wallPoints = getPoints();
+    float [][] wallPoints = getUnclonedPoints(false);
     Line2D endLine = new Line2D.Float(wallPoints [wallPoints.length / 2 - 1][0], wallPoints [wallPoints.length / 2 - 1][1],
         wallPoints [wallPoints.length / 2][0], wallPoints [wallPoints.length / 2][1]);
     return containsShapeAtWithMargin(endLine, x, y, margin);
@@ -1166,7 +1177,7 @@ public class Wall extends HomeObject implements Selectable, Elevatable {
    */
   private Shape getShape(boolean includeBaseboards) {
     if (this.shapeCache == null) {
-      float [][] wallPoints = getPoints(includeBaseboards);
+      float [][] wallPoints = getUnclonedPoints(includeBaseboards);
       GeneralPath wallPath = new GeneralPath();
       wallPath.moveTo(wallPoints [0][0], wallPoints [0][1]);
       for (int i = 1; i < wallPoints.length; i++) {
@@ -1221,16 +1232,21 @@ public class Wall extends HomeObject implements Selectable, Elevatable {
   }
 
   private static void updateBoundWalls(ArrayList<Wall> wallsCopy, List<Wall> walls) {
+    // Map walls to their copy, keeping the first one if a wall is listed more than once
+    Map<Wall, Wall> wallsCopies = new HashMap<Wall, Wall>(walls.size() * 4 / 3 + 1);
+    for (int i = walls.size() - 1; i >= 0; i--) {
+      wallsCopies.put(walls.get(i), wallsCopy.get(i));
+    }
     // Update walls at start and end point in wallsCopy
     for (int i = 0; i < walls.size(); i++) {
       Wall wall = walls.get(i);
-      int wallAtStartIndex = walls.indexOf(wall.getWallAtStart());
-      if (wallAtStartIndex != -1) {
-        wallsCopy.get(i).setWallAtStart(wallsCopy.get(wallAtStartIndex));
+      Wall wallAtStartCopy = wallsCopies.get(wall.getWallAtStart());
+      if (wallAtStartCopy != null) {
+        wallsCopy.get(i).setWallAtStart(wallAtStartCopy);
       }
-      int wallAtEndIndex = walls.indexOf(wall.getWallAtEnd());
-      if (wallAtEndIndex != -1) {
-        wallsCopy.get(i).setWallAtEnd(wallsCopy.get(wallAtEndIndex));
+      Wall wallAtEndCopy = wallsCopies.get(wall.getWallAtEnd());
+      if (wallAtEndCopy != null) {
+        wallsCopy.get(i).setWallAtEnd(wallAtEndCopy);
       }
     }
   }
@@ -32,10 +32,12 @@ import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -44,7 +46,13 @@ import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 import javax.swing.undo.UndoableEditSupport;
@@ -100,25 +108,79 @@ public class PluginManager {
   public PluginManager(File [] pluginFolders) {
     this.pluginFolders = pluginFolders;
     if (pluginFolders != null) {
+      List<File> pluginFiles = new ArrayList<File>();
       for (File pluginFolder : pluginFolders) {
         // Try to load plugin files from plugin folder
-        File [] pluginFiles = pluginFolder.listFiles(new FileFilter () {
+        File [] pluginFolderFiles = pluginFolder.listFiles(new FileFilter () {
           public boolean accept(File pathname) {
             return pathname.isFile();
           }
         });
 
-        if (pluginFiles != null) {
+        if (pluginFolderFiles != null) {
           // Treat plug in files in reverse order of their version number
-          Arrays.sort(pluginFiles, Collections.reverseOrder(OperatingSystem.getFileVersionComparator()));
-          for (File pluginFile : pluginFiles) {
-            try {
-              loadPlugins(pluginFile.toURI().toURL(), pluginFile.getAbsolutePath());
-            } catch (MalformedURLException ex) {
-              // Files are supposed to exist !
-            }
+          Arrays.sort(pluginFolderFiles, Collections.reverseOrder(OperatingSystem.getFileVersionComparator()));
+          pluginFiles.addAll(Arrays.asList(pluginFolderFiles));
+        }
+      }
+      readPluginFiles(pluginFiles);
+    }
+  }
+
+  /**
+   * Reads the plug-ins of the given files in parallel, and stores them in the order of the files.
+   */
+  private void readPluginFiles(List<File> pluginFiles) {
+    int filesCount = pluginFiles.size();
+    if (filesCount == 1) {
+      addPluginLibraries(readPluginFile(pluginFiles.get(0)));
+    } else if (filesCount > 1) {
+      ExecutorService pluginsReader = Executors.newFixedThreadPool(
+          Math.min(filesCount, Runtime.getRuntime().availableProcessors()));
+      try {
+        List<Future<List<PluginLibrary>>> pluginLibraries = new ArrayList<Future<List<PluginLibrary>>>(filesCount);
+        for (final File pluginFile : pluginFiles) {
+          pluginLibraries.add(pluginsReader.submit(new Callable<List<PluginLibrary>>() {
+              public List<PluginLibrary> call() {
+                return readPluginFile(pluginFile);
+              }
+            }));
+        }
+        for (Future<List<PluginLibrary>> libraries : pluginLibraries) {
+          try {
+            addPluginLibraries(libraries.get());
+          } catch (ExecutionException ex) {
+            // Ignore plug-in that couldn't be read
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            break;
           }
         }
+      } finally {
+        pluginsReader.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * Returns the plug-ins available in the given file.
+   */
+  private List<PluginLibrary> readPluginFile(File pluginFile) {
+    try {
+      return loadPlugins(pluginFile.toURI().toURL(), pluginFile.getAbsolutePath());
+    } catch (MalformedURLException ex) {
+      // Files are supposed to exist !
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * Stores the given plug-in libraries if no other library with the same name exists yet.
+   */
+  private void addPluginLibraries(List<PluginLibrary> libraries) {
+    for (PluginLibrary library : libraries) {
+      if (this.pluginLibraries.get(library.getName()) == null) {
+        this.pluginLibraries.put(library.getName(), library);
       }
     }
   }
@@ -129,21 +191,18 @@ public class PluginManager {
   public PluginManager(URL [] pluginUrls) {
     this.pluginFolders = null;
     for (URL pluginUrl : pluginUrls) {
-      loadPlugins(pluginUrl, pluginUrl.toExternalForm());
+      addPluginLibraries(loadPlugins(pluginUrl, pluginUrl.toExternalForm()));
     }
   }
 
   /**
    * Loads the plug-ins that may be available in the given URL.
    */
-  private void loadPlugins(URL pluginUrl, String pluginLocation) {
-    ZipInputStream zipIn = null;
+  private List<PluginLibrary> loadPlugins(URL pluginUrl, String pluginLocation) {
+    List<PluginLibrary> libraries = new ArrayList<PluginLibrary>();
     try {
-      // Open a zip input from pluginUrl
-      zipIn = new ZipInputStream(pluginUrl.openStream());
-      // Try do find a plugin properties file in current zip stream
-      for (ZipEntry entry; (entry = zipIn.getNextEntry()) != null; ) {
-        String zipEntryName = entry.getName();
+      // Try do find a plugin properties file in the entries of pluginUrl
+      for (String zipEntryName : getZipEntryNames(pluginUrl)) {
         int lastIndex = zipEntryName.lastIndexOf(DEFAULT_APPLICATION_PLUGIN_PROPERTIES_FILE);
         if (lastIndex != -1
             && (lastIndex == 0
@@ -153,10 +212,14 @@ public class PluginManager {
             String applicationPluginFamily = zipEntryName.substring(0, lastIndex);
             applicationPluginFamily += APPLICATION_PLUGIN_FAMILY;
             ClassLoader classLoader = new URLClassLoader(new URL [] {pluginUrl}, getClass().getClassLoader());
-            readPlugin(ResourceBundle.getBundle(applicationPluginFamily, Locale.getDefault(), classLoader),
+            PluginLibrary library = readPlugin(
+                ResourceBundle.getBundle(applicationPluginFamily, Locale.getDefault(), classLoader),
                 pluginLocation,
                 "jar:" + pluginUrl.toString() + "!/" + URLEncoder.encode(zipEntryName, "UTF-8").replace("+", "%20"),
                 classLoader);
+            if (library != null) {
+              libraries.add(library);
+            }
           } catch (MissingResourceException ex) {
             // Ignore malformed plugins
           }
@@ -164,20 +227,60 @@ public class PluginManager {
       }
     } catch (IOException ex) {
       // Ignore furniture plugin
-    } finally {
-      if (zipIn != null) {
-        try {
-          zipIn.close();
-        } catch (IOException ex) {
+    }
+    return libraries;
+  }
+
+  /**
+   * Returns the names of the entries of the zip file at the given URL.
+   * Local files are read from their central directory to avoid inflating their whole content.
+   */
+  private List<String> getZipEntryNames(URL zipUrl) throws IOException {
+    List<String> entryNames = new ArrayList<String>();
+    File zipFile = null;
+    if ("file".equals(zipUrl.getProtocol())) {
+      try {
+        zipFile = new File(zipUrl.toURI());
+      } catch (URISyntaxException ex) {
+        // Read zip entries as a stream
+      } catch (IllegalArgumentException ex) {
+        // Read zip entries as a stream
+      }
+    }
+    if (zipFile != null) {
+      ZipFile zip = new ZipFile(zipFile);
+      try {
+        for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements(); ) {
+          entryNames.add(entries.nextElement().getName());
+        }
+      } finally {
+        zip.close();
+      }
+    } else {
+      ZipInputStream zipIn = null;
+      try {
+        // Open a zip input from zipUrl
+        zipIn = new ZipInputStream(zipUrl.openStream());
+        for (ZipEntry entry; (entry = zipIn.getNextEntry()) != null; ) {
+          entryNames.add(entry.getName());
+        }
+      } finally {
+        if (zipIn != null) {
+          try {
+            zipIn.close();
+          } catch (IOException ex) {
+          }
         }
       }
     }
+    return entryNames;
   }
 
   /**
    * Reads the plug-in properties from the given <code>resource</code>.
+   * @return the read library or <code>null</code> if the plug-in is invalid
    */
-  private void readPlugin(ResourceBundle resource,
+  private PluginLibrary readPlugin(ResourceBundle resource,
                           String         pluginLocation,
                           String         pluginEntry,
                           ClassLoader    pluginClassLoader) {
@@ -189,14 +292,14 @@ public class PluginManager {
       if (!OperatingSystem.isJavaVersionGreaterOrEqual(javaMinimumVersion)) {
         System.err.println("Invalid plug-in " + pluginEntry + ":\n"
             + "Not compatible Java version " + System.getProperty("java.version"));
-        return;
+        return null;
       }
 
       String applicationMinimumVersion = resource.getString(APPLICATION_MINIMUM_VERSION);
       if (!isApplicationVersionSuperiorTo(applicationMinimumVersion)) {
         System.err.println("Invalid plug-in " + pluginEntry + ":\n"
             + "Not compatible application version");
-        return;
+        return null;
       }
 
       String pluginClassName = resource.getString(CLASS);
@@ -208,16 +311,14 @@ public class PluginManager {
       String license = resource.getString(LICENSE);
       String provider = resource.getString(PROVIDER);
 
-      // Store plug-in properties if they don't exist yet
-      if (this.pluginLibraries.get(name) == null) {
-        this.pluginLibraries.put(name, new PluginLibrary(
-            pluginLocation, id, name, description, version, license, provider, pluginClass, pluginClassLoader));
-      }
+      return new PluginLibrary(
+          pluginLocation, id, name, description, version, license, provider, pluginClass, pluginClassLoader);
     } catch (MissingResourceException ex) {
       System.err.println("Invalid plug-in " + pluginEntry + ":\n" + ex.getMessage());
     } catch (IllegalArgumentException ex) {
       System.err.println("Invalid plug-in " + pluginEntry + ":\n" + ex.getMessage());
     }
+    return null;
   }
 
   /**
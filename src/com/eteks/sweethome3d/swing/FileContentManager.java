@@ -84,8 +84,9 @@ import com.eteks.sweethome3d.viewcontroller.View;
  */
 public class FileContentManager implements ContentManager {
   private static final String OBJ_EXTENSION = ".obj";
+  private static final String GLB_EXTENSION = ".glb";
   /**
-   * Supported OBJ filter.
+   * Supported OBJ filters, the first one being the OBJ filter used among model filters.
    */
   private static final FileFilter [] OBJ_FILTER = {
       new FileFilter() {
@@ -100,6 +101,19 @@ public class FileContentManager implements ContentManager {
         public String getDescription() {
           return "OBJ - Wavefront";
         }
+      },
+      new FileFilter() {
+        @Override
+        public boolean accept(File file) {
+          // Accept directories and .glb files
+          return file.isDirectory()
+              || file.getName().toLowerCase().endsWith(GLB_EXTENSION);
+        }
+
+        @Override
+        public String getDescription() {
+          return "GLB - Binary glTF";
+        }
       }};
   /**
    * Supported 3D model file filters.
@@ -469,7 +483,7 @@ public class FileContentManager implements ContentManager {
     this.fileExtensions.put(ContentType.PDF,               new String [] {PDF_EXTENSION});
     this.fileExtensions.put(ContentType.CSV,               new String [] {CSV_EXTENSION});
     this.fileExtensions.put(ContentType.SVG,               new String [] {SVG_EXTENSION});
-    this.fileExtensions.put(ContentType.OBJ,               new String [] {OBJ_EXTENSION});
+    this.fileExtensions.put(ContentType.OBJ,               new String [] {OBJ_EXTENSION, GLB_EXTENSION});
     this.fileExtensions.put(ContentType.MODEL,
         new String [] {OBJ_EXTENSION, LWS_EXTENSION, THREEDS_EXTENSION, DAE_EXTENSION, ZIP_EXTENSION, KMZ_EXTENSION});
     this.fileExtensions.put(ContentType.IMAGE,
@@ -619,7 +633,10 @@ public class FileContentManager implements ContentManager {
     boolean addedExtension = false;
     if (savedPath != null) {
       if (defaultExtension != null) {
-        if (!savedPath.toLowerCase().endsWith(defaultExtension)) {
+        // Keep binary glTF extension chosen by user for 3D exports
+        if (!savedPath.toLowerCase().endsWith(defaultExtension)
+            && !(contentType == ContentType.OBJ
+                 && savedPath.toLowerCase().endsWith(GLB_EXTENSION))) {
           savedPath += defaultExtension;
           addedExtension = true;
         }
@@ -853,8 +870,10 @@ public class FileContentManager implements ContentManager {
     for (FileFilter filter : contentFileFilters) {
       fileChooser.addChoosableFileFilter(filter);
     }
-    // If there's only one file filter, select it
-    if (contentFileFilters.length == 1) {
+    // If there's only one file filter or if a file is saved, select the first filter
+    // that matches default extension
+    if (contentFileFilters.length == 1
+        || save) {
       fileChooser.setFileFilter(contentFileFilters [0]);
     } else {
       fileChooser.setFileFilter(acceptAllFileFilter);
@@ -878,12 +897,48 @@ public class FileContentManager implements ContentManager {
       // Store last directory
       setLastDirectory(contentType, directory);
       // Return selected file
-      return fileChooser.getSelectedFile().toString();
+      String selectedFile = fileChooser.getSelectedFile().toString();
+      if (save) {
+        selectedFile = getPathWithFilterExtension(selectedFile, contentType,
+            contentFileFilters, fileChooser.getFileFilter());
+      }
+      return selectedFile;
     } else {
       return null;
     }
   }
 
+  /**
+   * Returns <code>path</code> with the extension matching the given filter
+   * if this filter isn't the first one of <code>contentType</code>.
+   * The first filter is ignored because its extension is the default one
+   * added by {@link #showSaveDialog(View, String, ContentType, String) showSaveDialog}.
+   */
+  private String getPathWithFilterExtension(String path, ContentType contentType,
+                                            FileFilter [] contentFileFilters,
+                                            FileFilter selectedFilter) {
+    String [] fileExtensions = getFileExtensions(contentType);
+    if (fileExtensions != null) {
+      for (int i = 1; i < contentFileFilters.length && i < fileExtensions.length; i++) {
+        if (contentFileFilters [i] == selectedFilter) {
+          String extension = fileExtensions [i];
+          if (!path.toLowerCase().endsWith(extension)) {
+            // Replace any other extension of contentType by the one of the selected filter
+            for (String otherExtension : fileExtensions) {
+              if (path.toLowerCase().endsWith(otherExtension)) {
+                path = path.substring(0, path.length() - otherExtension.length());
+                break;
+              }
+            }
+            path += extension;
+          }
+          break;
+        }
+      }
+    }
+    return path;
+  }
+
   /**
    * Returns default file dialog title.
    */
@@ -810,6 +810,7 @@ public class FurnitureCatalogListPanel extends JPanel implements View {
    */
   private static class FurnitureCatalogListModel extends AbstractListModel {
     private FurnitureCatalog                catalog;
+    private List<CatalogPieceOfFurniture>   sortedCatalogFurniture;
     private List<CatalogPieceOfFurniture>   furniture;
     private FurnitureCategory               filterCategory;
     private String                          filterText;
@@ -851,20 +852,30 @@ public class FurnitureCatalogListPanel extends JPanel implements View {
       }
     }
 
+    private void resetCatalogFurniture() {
+      this.sortedCatalogFurniture = null;
+      resetFurnitureList();
+    }
+
     private void checkFurnitureList() {
       if (this.furniture == null) {
+        if (this.sortedCatalogFurniture == null) {
+          // Sort catalog furniture once, to avoid sorting it again each time filter changes
+          this.sortedCatalogFurniture = new ArrayList<CatalogPieceOfFurniture>();
+          for (FurnitureCategory category : this.catalog.getCategories()) {
+            this.sortedCatalogFurniture.addAll(category.getFurniture());
+          }
+          Collections.sort(this.sortedCatalogFurniture);
+        }
+        // Filtered furniture keeps the order of sorted furniture
         this.furniture = new ArrayList<CatalogPieceOfFurniture>();
-        this.furniture.clear();
-        for (FurnitureCategory category : this.catalog.getCategories()) {
-          for (CatalogPieceOfFurniture piece : category.getFurniture()) {
-            if ((this.filterCategory == null
-                  || piece.getCategory().equals(this.filterCategory))
-                && piece.matchesFilter(this.filterText)) {
-              furniture.add(piece);
-            }
+        for (CatalogPieceOfFurniture piece : this.sortedCatalogFurniture) {
+          if ((this.filterCategory == null
+                || piece.getCategory().equals(this.filterCategory))
+              && piece.matchesFilter(this.filterText)) {
+            this.furniture.add(piece);
           }
         }
-        Collections.sort(this.furniture);
       }
     }
 
@@ -886,7 +897,7 @@ public class FurnitureCatalogListPanel extends JPanel implements View {
         if (listModel == null) {
           catalog.removeFurnitureListener(this);
         } else {
-          listModel.resetFurnitureList();
+          listModel.resetCatalogFurniture();
         }
       }
     }
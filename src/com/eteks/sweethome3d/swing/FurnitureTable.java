@@ -41,7 +41,9 @@ import java.awt.print.Printable;
 import java.awt.print.PrinterException;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.StringWriter;
@@ -50,6 +52,8 @@ import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.security.AccessControlException;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.text.DecimalFormat;
 import java.text.Format;
 import java.text.NumberFormat;
@@ -688,11 +692,15 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
     final PropertyChangeListener changeListener =
       new PropertyChangeListener () {
         public void propertyChange(PropertyChangeEvent ev) {
-          // As furniture properties values change may alter sort order and filter, update the whole table
-          ((FurnitureTreeTableModel)getModel()).filterAndSortFurniture();
+          FurnitureTreeTableModel tableModel = (FurnitureTreeTableModel)getModel();
+          if (!(ev.getSource() instanceof HomePieceOfFurniture)
+              || !tableModel.updatePieceOfFurniture((HomePieceOfFurniture)ev.getSource(), ev.getPropertyName())) {
+            // As furniture properties values change may alter sort order and filter, update the whole table
+            tableModel.filterAndSortFurniture();
+            storeExpandedRows(home, controller);
+          }
           // Update selected rows
           updateTableSelectedFurniture(home);
-          storeExpandedRows(home, controller);
         }
       };
     for (HomePieceOfFurniture piece : home.getFurniture()) {
@@ -990,12 +998,14 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
       } catch (AccessControlException ex) {
         csvEncoding = "UTF-8";
       }
-      OutputStreamWriter writer = csvEncoding != null
+      OutputStreamWriter outputWriter = csvEncoding != null
           ? new OutputStreamWriter(out, csvEncoding)
           : new OutputStreamWriter(out);
       char fieldSeparator = settings != null
           ? settings.getProperty("fieldSeparator", "\t").charAt(0)
           : '\t';
+      // Write rows through a buffer to avoid an encoder call for each cell
+      Writer writer = new BufferedWriter(outputWriter, 65536);
       exportToCSV(writer, fieldSeparator);
       writer.flush();
     } else {
@@ -1005,135 +1015,244 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
 
   /**
    * Writes in the given stream the content of the table at CSV format.
+   * If the current thread is interrupted during the export, an <code>InterruptedIOException</code> is thrown.
    */
   public void exportToCSV(Writer writer, char fieldSeparator) throws IOException {
-    exportHeaderToCSV(writer, fieldSeparator);
+    CSVExporter exporter = new CSVExporter(fieldSeparator);
+    exporter.exportHeader(writer);
     for (int row = 0, n = getRowCount(); row < n; row++) {
-      exportRowToCSV(writer, fieldSeparator, row);
+      if (Thread.currentThread().isInterrupted()) {
+        throw new InterruptedIOException("Export to CSV interrupted");
+      }
+      exporter.exportRow(writer, row);
     }
   }
 
-  private void exportHeaderToCSV(Writer writer, char fieldSeparator) throws IOException {
-    TableColumnModel columnModel = getColumnModel();
-    for (int columnIndex = 0, n = columnModel.getColumnCount(); columnIndex < n; columnIndex++) {
-      if (columnIndex > 0) {
-        writer.write(fieldSeparator);
+  /**
+   * Returns the creators of the given piece and of its textures if any.
+   */
+  private static String getCreators(HomePieceOfFurniture piece) {
+    String creator = piece.getCreator();
+    if (creator != null) {
+      HomeTexture texture = piece.getTexture();
+      if (texture != null) {
+        String textureCreator = texture.getCreator();
+        if (textureCreator != null
+            && !creator.equals(textureCreator)) {
+          creator += ", " + textureCreator;
+        }
+      } else {
+        String modelCreator = creator;
+        HomeMaterial [] materials = piece.getModelMaterials();
+        if (materials != null) {
+          for (HomeMaterial material : materials) {
+            if (material != null) {
+              HomeTexture materialTexture = material.getTexture();
+              if (materialTexture != null) {
+                String textureCreator = materialTexture.getCreator();
+                if (textureCreator != null
+                    && !modelCreator.equals(textureCreator)
+                    && creator.indexOf(", " + textureCreator) == -1) {
+                  creator += ", " + textureCreator;
+                }
+              }
+            }
+          }
+        }
       }
-      writer.write(String.valueOf(columnModel.getColumn(columnIndex).getHeaderValue()));
     }
-    writer.write(System.getProperty("line.separator"));
+    return creator;
   }
 
-  private void exportRowToCSV(Writer writer, char fieldSeparator, int rowIndex) throws IOException {
-    TableModel model = getModel();
-    HomePieceOfFurniture copiedPiece = (HomePieceOfFurniture)model.getValueAt(rowIndex, 0);
-    // Force format for sizes to always display decimals
-    Format sizeFormat;
-    if (this.preferences.getLengthUnit() == LengthUnit.INCH) {
-      sizeFormat = LengthUnit.INCH_DECIMALS.getFormat();
-    } else {
-      sizeFormat = this.preferences.getLengthUnit().getFormat();
+  /**
+   * An exporter able to write the header and the rows of this table at CSV format.
+   * Columns and formats are computed once at creation time and reused for each exported row,
+   * and cells of furniture properties are formatted directly from pieces, without their renderer.
+   */
+  private class CSVExporter {
+    private final char                  fieldSeparator;
+    private final String                lineSeparator;
+    private final TableColumn []        columns;
+    private final Format                sizeFormat;
+    private final String                defaultCurrency;
+    private final Map<String, NumberFormat>  currencyFormats = new HashMap<String, NumberFormat>();
+    private final Map<Integer, NumberFormat> percentFormats = new HashMap<Integer, NumberFormat>();
+
+    public CSVExporter(char fieldSeparator) {
+      this.fieldSeparator = fieldSeparator;
+      this.lineSeparator = System.getProperty("line.separator");
+      TableColumnModel columnModel = getColumnModel();
+      this.columns = new TableColumn [columnModel.getColumnCount()];
+      for (int columnIndex = 0; columnIndex < this.columns.length; columnIndex++) {
+        this.columns [columnIndex] = columnModel.getColumn(columnIndex);
+      }
+      // Force format for sizes to always display decimals
+      if (preferences.getLengthUnit() == LengthUnit.INCH) {
+        this.sizeFormat = LengthUnit.INCH_DECIMALS.getFormat();
+      } else {
+        this.sizeFormat = preferences.getLengthUnit().getFormat();
+      }
+      this.defaultCurrency = preferences.getCurrency();
     }
 
-    TableColumnModel columnModel = getColumnModel();
-    for (int columnIndex = 0, n = columnModel.getColumnCount(); columnIndex < n; columnIndex++) {
-      if (columnIndex > 0) {
-        writer.write(fieldSeparator);
+    public void exportHeader(Writer writer) throws IOException {
+      for (int columnIndex = 0; columnIndex < this.columns.length; columnIndex++) {
+        if (columnIndex > 0) {
+          writer.write(this.fieldSeparator);
+        }
+        writer.write(String.valueOf(this.columns [columnIndex].getHeaderValue()));
       }
-      TableColumn column = columnModel.getColumn(columnIndex);
-      Object columnIdentifier = column.getIdentifier();
-      if (columnIdentifier instanceof HomePieceOfFurniture.SortableProperty) {
-        switch ((HomePieceOfFurniture.SortableProperty)columnIdentifier) {
-          case CATALOG_ID :
-            // Copy piece catalog id
-            String catalogId = copiedPiece.getCatalogId();
-            writer.write(catalogId != null ? catalogId : "");
-            break;
-          case NAME :
-            // Copy piece name
-            writer.write(copiedPiece.getName());
-            break;
-          case CREATOR :
-            // Copy piece creators
-            String creators = ((JLabel)column.getCellRenderer().getTableCellRendererComponent(
-                this, copiedPiece, false, false, rowIndex, columnIndex)).getText();
-            if (creators != null) {
-              writer.write(creators);
-            }
-            break;
-          case LEVEL :
-            // Copy level name
-            writer.write(copiedPiece.getLevel() != null
-                ? copiedPiece.getLevel().getName()
-                : "");
-            break;
-          case COLOR :
-            if (copiedPiece.getColor() != null) {
-              // Copy piece color at #xxxxxx format
-              writer.write("#" + Integer.toHexString(copiedPiece.getColor()).substring(2));
-            }
-            break;
-          case TEXTURE :
-            if (copiedPiece.getTexture() != null) {
-              writer.write(copiedPiece.getTexture().getName());
-            }
-            break;
-          case WIDTH :
-            writer.write(sizeFormat.format(copiedPiece.getWidth()));
-            break;
-          case DEPTH :
-            writer.write(sizeFormat.format(copiedPiece.getDepth()));
-            break;
-          case HEIGHT :
-            writer.write(sizeFormat.format(copiedPiece.getHeight()));
-            break;
-          case X :
-            writer.write(sizeFormat.format(copiedPiece.getX()));
-            break;
-          case Y :
-            writer.write(sizeFormat.format(copiedPiece.getY()));
-            break;
-          case ELEVATION :
-            writer.write(sizeFormat.format(copiedPiece.getElevation()));
-            break;
-          case ANGLE :
-          case MODEL_SIZE :
-          case PRICE :
-          case VALUE_ADDED_TAX_PERCENTAGE :
-          case VALUE_ADDED_TAX :
-          case PRICE_VALUE_ADDED_TAX_INCLUDED :
+      writer.write(this.lineSeparator);
+    }
+
+    public void exportRow(Writer writer, int rowIndex) throws IOException {
+      TableModel model = getModel();
+      HomePieceOfFurniture copiedPiece = (HomePieceOfFurniture)model.getValueAt(rowIndex, 0);
+      for (int columnIndex = 0; columnIndex < this.columns.length; columnIndex++) {
+        if (columnIndex > 0) {
+          writer.write(this.fieldSeparator);
+        }
+        TableColumn column = this.columns [columnIndex];
+        Object columnIdentifier = column.getIdentifier();
+        if (columnIdentifier instanceof HomePieceOfFurniture.SortableProperty) {
+          switch ((HomePieceOfFurniture.SortableProperty)columnIdentifier) {
+            case CATALOG_ID :
+              // Copy piece catalog id
+              String catalogId = copiedPiece.getCatalogId();
+              writer.write(catalogId != null ? catalogId : "");
+              break;
+            case NAME :
+              // Copy piece name
+              writer.write(copiedPiece.getName());
+              break;
+            case CREATOR :
+              // Copy piece creators
+              String creators = getCreators(copiedPiece);
+              if (creators != null) {
+                writer.write(creators);
+              }
+              break;
+            case LEVEL :
+              // Copy level name
+              writer.write(copiedPiece.getLevel() != null
+                  ? copiedPiece.getLevel().getName()
+                  : "");
+              break;
+            case COLOR :
+              if (copiedPiece.getColor() != null) {
+                // Copy piece color at #xxxxxx format
+                writer.write('#');
+                writer.write(Integer.toHexString(copiedPiece.getColor()).substring(2));
+              }
+              break;
+            case TEXTURE :
+              if (copiedPiece.getTexture() != null) {
+                writer.write(copiedPiece.getTexture().getName());
+              }
+              break;
+            case WIDTH :
+              writer.write(this.sizeFormat.format(copiedPiece.getWidth()));
+              break;
+            case DEPTH :
+              writer.write(this.sizeFormat.format(copiedPiece.getDepth()));
+              break;
+            case HEIGHT :
+              writer.write(this.sizeFormat.format(copiedPiece.getHeight()));
+              break;
+            case X :
+              writer.write(this.sizeFormat.format(copiedPiece.getX()));
+              break;
+            case Y :
+              writer.write(this.sizeFormat.format(copiedPiece.getY()));
+              break;
+            case ELEVATION :
+              writer.write(this.sizeFormat.format(copiedPiece.getElevation()));
+              break;
             // Copy numbers as they are displayed by their renderer
-            String text = ((JLabel)column.getCellRenderer().getTableCellRendererComponent(
-                this, copiedPiece, false, false, rowIndex, columnIndex)).getText();
+            case ANGLE :
+              writer.write(String.valueOf(Math.round(Math.toDegrees(copiedPiece.getAngle()) + 360) % 360));
+              break;
+            case MODEL_SIZE :
+              Long modelSize = copiedPiece.getModelSize();
+              if (modelSize != null && modelSize > 0) {
+                writer.write(String.valueOf(Math.max(1, (int)Math.round(modelSize / 1000.))));
+              }
+              break;
+            case PRICE :
+              exportPrice(writer, copiedPiece.getPrice(), copiedPiece.getCurrency());
+              break;
+            case VALUE_ADDED_TAX_PERCENTAGE :
+              BigDecimal valueAddedTaxPercentage = copiedPiece.getValueAddedTaxPercentage();
+              if (valueAddedTaxPercentage != null) {
+                writer.write(getPercentFormat(valueAddedTaxPercentage.scale()).format(valueAddedTaxPercentage));
+              }
+              break;
+            case VALUE_ADDED_TAX :
+              exportPrice(writer, copiedPiece.getValueAddedTax(), copiedPiece.getCurrency());
+              break;
+            case PRICE_VALUE_ADDED_TAX_INCLUDED :
+              exportPrice(writer, copiedPiece.getPriceValueAddedTaxIncluded(), copiedPiece.getCurrency());
+              break;
+            case MOVABLE :
+              // Copy boolean as true or false
+              writer.write(String.valueOf(copiedPiece.isMovable()));
+              break;
+            case DOOR_OR_WINDOW :
+              writer.write(String.valueOf(copiedPiece.isDoorOrWindow()));
+              break;
+            case VISIBLE :
+              writer.write(String.valueOf(copiedPiece.isVisible()));
+              break;
+          }
+        } else {
+          Component rendererComponent = column.getCellRenderer().getTableCellRendererComponent(
+              FurnitureTable.this, copiedPiece, false, false, rowIndex, columnIndex);
+          if (rendererComponent instanceof JLabel) {
+            String text = ((JLabel)rendererComponent).getText();
             if (text != null) {
               writer.write(text);
             }
-            break;
-          case MOVABLE :
-            // Copy boolean as true or false
-            writer.write(String.valueOf(copiedPiece.isMovable()));
-            break;
-          case DOOR_OR_WINDOW :
-            writer.write(String.valueOf(copiedPiece.isDoorOrWindow()));
-            break;
-          case VISIBLE :
-            writer.write(String.valueOf(copiedPiece.isVisible()));
-            break;
+          } else {
+            writer.write(String.valueOf(model.getValueAt(rowIndex, columnIndex)));
+          }
         }
-      } else {
-        Component rendererComponent = column.getCellRenderer().getTableCellRendererComponent(
-            this, copiedPiece, false, false, rowIndex, columnIndex);
-        if (rendererComponent instanceof JLabel) {
-          String text = ((JLabel)rendererComponent).getText();
-          if (text != null) {
-            writer.write(text);
+      }
+      writer.write(this.lineSeparator);
+    }
+
+    private void exportPrice(Writer writer, BigDecimal price, String currencyCode) throws IOException {
+      if (price != null) {
+        writer.write(getCurrencyFormat(currencyCode != null ? currencyCode : this.defaultCurrency).format(price));
+      }
+    }
+
+    private NumberFormat getCurrencyFormat(String currencyCode) {
+      NumberFormat currencyFormat = this.currencyFormats.get(currencyCode);
+      if (currencyFormat == null) {
+        currencyFormat = DecimalFormat.getCurrencyInstance();
+        if (currencyCode != null) {
+          try {
+            Currency currency = Currency.getInstance(currencyCode);
+            currencyFormat.setCurrency(currency);
+            currencyFormat.setMaximumFractionDigits(currency.getDefaultFractionDigits());
+          } catch (IllegalArgumentException ex) {
+            // Ignore currency
           }
-        } else {
-          writer.write(String.valueOf(model.getValueAt(rowIndex, columnIndex)));
         }
+        this.currencyFormats.put(currencyCode, currencyFormat);
+      }
+      return currencyFormat;
+    }
+
+    private NumberFormat getPercentFormat(int scale) {
+      NumberFormat percentFormat = this.percentFormats.get(scale);
+      if (percentFormat == null) {
+        percentFormat = DecimalFormat.getPercentInstance();
+        percentFormat.setMinimumFractionDigits(scale - 2);
+        this.percentFormats.put(scale, percentFormat);
       }
+      return percentFormat;
     }
-    writer.write(System.getProperty("line.separator"));
   }
 
   /**
@@ -1153,9 +1272,10 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
   public String getClipboardCSV() {
     StringWriter writer = new StringWriter();
     try {
-      exportHeaderToCSV(writer, '\t');
+      CSVExporter exporter = new CSVExporter('\t');
+      exporter.exportHeader(writer);
       for (int row : getSelectedRows()) {
-        exportRowToCSV(writer, '\t', row);
+        exporter.exportRow(writer, row);
       }
     } catch (IOException ex) {
       // May not happen since there's no IO write
@@ -1528,36 +1648,7 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
         public Component getTableCellRendererComponent(JTable table,
              Object value, boolean isSelected, boolean hasFocus,
              int row, int column) {
-          HomePieceOfFurniture piece = (HomePieceOfFurniture)value;
-          String creator = piece.getCreator();
-          if (creator != null) {
-            HomeTexture texture = piece.getTexture();
-            if (texture != null) {
-              String textureCreator = texture.getCreator();
-              if (textureCreator != null
-                  && !creator.equals(textureCreator)) {
-                creator += ", " + textureCreator;
-              }
-            } else {
-              String modelCreator = creator;
-              HomeMaterial [] materials = piece.getModelMaterials();
-              if (materials != null) {
-                for (HomeMaterial material : materials) {
-                  if (material != null) {
-                    HomeTexture materialTexture = material.getTexture();
-                    if (materialTexture != null) {
-                      String textureCreator = materialTexture.getCreator();
-                      if (textureCreator != null
-                          && !modelCreator.equals(textureCreator)
-                          && creator.indexOf(", " + textureCreator) == -1) {
-                        creator += ", " + textureCreator;
-                      }
-                    }
-                  }
-                }
-              }
-            }
-          }
+          String creator = getCreators((HomePieceOfFurniture)value);
           Component component = super.getTableCellRendererComponent(
               table, creator, isSelected, hasFocus, row, column);
           component.setComponentOrientation(table.getComponentOrientation());
@@ -2301,6 +2392,7 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
     private List<TreeModelListener>                 treeModelListeners;
     private Map<Object, List<HomePieceOfFurniture>> childFurnitureCache;
     private boolean                                 containsNotViewableFurniture;
+    private Collator                                collator = Collator.getInstance();
 
     public FurnitureTreeTableModel(Home home) {
       this.home = home;
@@ -2332,8 +2424,7 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
                 }
                 break;
               case DELETE :
-                if (furnitureFilter != null
-                    || pieceIndex < 0) {
+                if (pieceIndex < 0) {
                   filterAndSortFurniture();
                 } else {
                   int deletionIndex = getPieceOfFurnitureDeletionIndex(piece, home, pieceIndex);
@@ -2462,6 +2553,8 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
         }
       }
       this.containsNotViewableFurniture = containsNotViewableFurniture;
+      // Get a collator for the current locale, kept to compare pieces moved later in the sorted list
+      this.collator = Collator.getInstance();
       this.filteredAndSortedFurniture = getFilteredAndSortedFurniture(furniture, true);
       if (previousRowCount != this.filteredAndSortedFurniture.size()) {
         fireTableDataChanged();
@@ -2471,6 +2564,31 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
       fireTreeModelChanged();
     }
 
+    /**
+     * A piece of furniture associated to the collation key of one of its text properties.
+     */
+    private static class CollatedPieceOfFurniture implements Comparable<CollatedPieceOfFurniture> {
+      private final HomePieceOfFurniture piece;
+      private final CollationKey         key;
+
+      public CollatedPieceOfFurniture(HomePieceOfFurniture piece, CollationKey key) {
+        this.piece = piece;
+        this.key = key;
+      }
+
+      public int compareTo(CollatedPieceOfFurniture collatedPiece) {
+        if (this.key == collatedPiece.key) {
+          return 0;
+        } else if (this.key == null) {
+          return -1;
+        } else if (collatedPiece.key == null) {
+          return 1;
+        } else {
+          return this.key.compareTo(collatedPiece.key);
+        }
+      }
+    }
+
     /**
      * Returns a filtered and sorted list of the given <code>furniture</code>.
      */
@@ -2499,8 +2617,7 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
       }
       // Sort furniture if necessary
       if (this.home.getFurnitureSortedProperty() != null) {
-        Comparator<HomePieceOfFurniture> furnitureComparator = getFurnitureComparator(this.home);
-        Collections.sort(filteredAndSortedFurniture, furnitureComparator);
+        sortFurniture(filteredAndSortedFurniture);
       }
       if (includeExpandedGroups) {
         // Add furniture of expanded groups
@@ -2516,15 +2633,136 @@ public class FurnitureTable extends JTable implements FurnitureView, Printable {
       return filteredAndSortedFurniture;
     }
 
+    /**
+     * Sorts the given <code>furniture</code> in the order of home sorted property.
+     * Text properties are compared with collation keys computed once for each piece,
+     * rather than with a collator at each comparison.
+     */
+    private void sortFurniture(List<HomePieceOfFurniture> furniture) {
+      HomePieceOfFurniture.SortableProperty sortedProperty = this.home.getFurnitureSortedProperty();
+      if (isTextProperty(sortedProperty)) {
+        List<CollatedPieceOfFurniture> collatedFurniture = new ArrayList<CollatedPieceOfFurniture>(furniture.size());
+        for (HomePieceOfFurniture piece : furniture) {
+          String text = getText(piece, sortedProperty);
+          collatedFurniture.add(new CollatedPieceOfFurniture(piece,
+              text != null ? this.collator.getCollationKey(text) : null));
+        }
+        if (this.home.isFurnitureDescendingSorted()) {
+          Collections.sort(collatedFurniture, Collections.reverseOrder());
+        } else {
+          Collections.sort(collatedFurniture);
+        }
+        for (int i = 0; i < collatedFurniture.size(); i++) {
+          furniture.set(i, collatedFurniture.get(i).piece);
+        }
+      } else {
+        Collections.sort(furniture, getFurnitureComparator(this.home));
+      }
+    }
+
+    /**
+     * Returns <code>true</code> if the given property is sorted with collation keys.
+     */
+    private boolean isTextProperty(HomePieceOfFurniture.SortableProperty property) {
+      return property == HomePieceOfFurniture.SortableProperty.NAME
+          || property == HomePieceOfFurniture.SortableProperty.CATALOG_ID
+          || property == HomePieceOfFurniture.SortableProperty.CREATOR;
+    }
+
+    /**
+     * Returns the value of the given text <code>property</code> of a <code>piece</code>.
+     */
+    private String getText(HomePieceOfFurniture piece, HomePieceOfFurniture.SortableProperty property) {
+      switch (property) {
+        case NAME :
+          return piece.getName();
+        case CATALOG_ID :
+          return piece.getCatalogId();
+        default :
+          return piece.getCreator();
+      }
+    }
+
+    /**
+     * Returns the comparator of furniture in the order of home sorted property,
+     * which compares text properties with the collator used by the last sort.
+     */
     private Comparator<HomePieceOfFurniture> getFurnitureComparator(Home home) {
-      Comparator<HomePieceOfFurniture> furnitureComparator =
-        HomePieceOfFurniture.getFurnitureComparator(home.getFurnitureSortedProperty());
+      final HomePieceOfFurniture.SortableProperty sortedProperty = home.getFurnitureSortedProperty();
+      Comparator<HomePieceOfFurniture> furnitureComparator;
+      if (isTextProperty(sortedProperty)) {
+        final Collator collator = this.collator;
+        furnitureComparator = new Comparator<HomePieceOfFurniture>() {
+            public int compare(HomePieceOfFurniture piece1, HomePieceOfFurniture piece2) {
+              String text1 = getText(piece1, sortedProperty);
+              String text2 = getText(piece2, sortedProperty);
+              if (text1 == text2) {
+                return 0;
+              } else if (text1 == null) {
+                return -1;
+              } else if (text2 == null) {
+                return 1;
+              } else {
+                return collator.compare(text1, text2);
+              }
+            }
+          };
+      } else {
+        furnitureComparator = HomePieceOfFurniture.getFurnitureComparator(sortedProperty);
+      }
       if (home.isFurnitureDescendingSorted()) {
         furnitureComparator = Collections.reverseOrder(furnitureComparator);
       }
       return furnitureComparator;
     }
 
+    /**
+     * Updates the row of the given <code>piece</code> after the change of one of its properties,
+     * and moves it to keep the table sorted if necessary.
+     * @return <code>false</code> if the change may alter other rows or the filter applied to furniture,
+     *         meaning that furniture should be filtered and sorted again.
+     */
+    public boolean updatePieceOfFurniture(HomePieceOfFurniture piece, String propertyName) {
+      if (this.furnitureFilter != null
+          || !this.expandedGroups.isEmpty()
+          || this.containsNotViewableFurniture
+          || HomePieceOfFurniture.Property.LEVEL.name().equals(propertyName)) {
+        return false;
+      }
+      int index = getPieceOfFurnitureIndex(piece);
+      if (index == -1) {
+        // Piece belongs to a collapsed group: update the row of the top level group that contains it
+        for (HomePieceOfFurniture homePiece : this.home.getFurniture()) {
+          if (homePiece instanceof HomeFurnitureGroup
+              && ((HomeFurnitureGroup)homePiece).getAllFurniture().contains(piece)) {
+            return updatePieceOfFurniture(homePiece, propertyName);
+          }
+        }
+        return false;
+      }
+      if (this.home.getFurnitureSortedProperty() != null) {
+        Comparator<HomePieceOfFurniture> furnitureComparator = getFurnitureComparator(this.home);
+        int lastIndex = this.filteredAndSortedFurniture.size() - 1;
+        if (index > 0
+              && furnitureComparator.compare(this.filteredAndSortedFurniture.get(index - 1), piece) > 0
+            || index < lastIndex
+              && furnitureComparator.compare(piece, this.filteredAndSortedFurniture.get(index + 1)) > 0) {
+          // Move piece to its new sorted index
+          this.filteredAndSortedFurniture.remove(index);
+          int sortedIndex = Collections.binarySearch(this.filteredAndSortedFurniture, piece, furnitureComparator);
+          if (sortedIndex < 0) {
+            sortedIndex = -(sortedIndex + 1);
+          }
+          this.filteredAndSortedFurniture.add(sortedIndex, piece);
+          fireTableRowsUpdated(Math.min(index, sortedIndex), Math.max(index, sortedIndex));
+          fireTreeModelChanged();
+          return true;
+        }
+      }
+      fireTableRowsUpdated(index, index);
+      return true;
+    }
+
     /**
      * Sets the filter applied to the furniture listed in this model.
      */
@@ -190,6 +190,7 @@ public class HomeComponent3D extends JComponent implements com.eteks.sweethome3d
   private final boolean                            displayShadowOnFloor;
   private final Object3DFactory                    object3dFactory;
   private final Map<Selectable, Object3DBranch>    homeObjects = new HashMap<Selectable, Object3DBranch>();
+  private final Map<Object3DBranch, Selectable>    homeObjectsBranches = new HashMap<Object3DBranch, Selectable>();
   private Light []                                 sceneLights;
   private Collection<Selectable>                   homeObjectsToUpdate;
   private Collection<Selectable>                   lightScopeObjectsToUpdate;
@@ -1843,16 +1844,13 @@ public class HomeComponent3D extends JComponent implements com.eteks.sweethome3d
       pickCanvas.setShapeLocation(canvasPoint.x, canvasPoint.y);
       PickResult result = pickCanvas.pickClosest();
       if (result != null) {
-        Node pickedNode = result.getNode(PickResult.SHAPE3D);
-        while (!this.homeObjects.containsValue(pickedNode)
-               && pickedNode.getParent() != null) {
-          pickedNode = pickedNode.getParent();
-        }
-        if (pickedNode != null) {
-          for (Map.Entry<Selectable, Object3DBranch> entry : this.homeObjects.entrySet()) {
-            if (entry.getValue() == pickedNode) {
-              return entry.getKey();
-            }
+        // Search the branch of the picked shape matching a home object
+        for (Node pickedNode = result.getNode(PickResult.SHAPE3D);
+             pickedNode != null;
+             pickedNode = pickedNode.getParent()) {
+          Selectable item = this.homeObjectsBranches.get(pickedNode);
+          if (item != null) {
+            return item;
           }
         }
       }
@@ -2917,6 +2915,7 @@ public class HomeComponent3D extends JComponent implements com.eteks.sweethome3d
     Object3DBranch object3D = createObject3D(homeObject, waitForLoading);
     if (listenToHomeUpdates) {
       this.homeObjects.put(homeObject, object3D);
+      this.homeObjectsBranches.put(object3D, homeObject);
     }
     if (index == -1) {
       group.addChild(object3D);
@@ -2955,8 +2954,9 @@ public class HomeComponent3D extends JComponent implements com.eteks.sweethome3d
    * Detaches from the scene the branch matching <code>homeObject</code>.
    */
   private void deleteObject(Selectable homeObject) {
-    this.homeObjects.get(homeObject).detach();
-    this.homeObjects.remove(homeObject);
+    Object3DBranch object3D = this.homeObjects.remove(homeObject);
+    object3D.detach();
+    this.homeObjectsBranches.remove(object3D);
     if (this.homeObjectsToUpdate != null
         && this.homeObjectsToUpdate.contains(homeObject)) {
       this.homeObjectsToUpdate.remove(homeObject);
@@ -22,6 +22,7 @@ package com.eteks.sweethome3d.swing;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.print.PageFormat;
+import java.awt.print.Printable;
 import java.awt.print.PrinterException;
 import java.io.IOException;
 import java.io.InterruptedIOException;
@@ -35,7 +36,6 @@ import com.lowagie.text.Document;
 import com.lowagie.text.DocumentException;
 import com.lowagie.text.Rectangle;
 import com.lowagie.text.pdf.PdfContentByte;
-import com.lowagie.text.pdf.PdfTemplate;
 import com.lowagie.text.pdf.PdfWriter;
 
 /**
@@ -87,24 +87,27 @@ public class HomePDFPrinter {
       PdfContentByte pdfContent = pdfWriter.getDirectContent();
       HomePrintableComponent printableComponent = 
           new HomePrintableComponent(this.home, this.controller, this.defaultFont);
-      // Print each page
-      for (int page = 0, pageCount = printableComponent.getPageCount(); page < pageCount; page++) {
+      // Print each page until there's no more page, without counting pages first
+      // because that would print all the pages twice
+      for (int page = 0; ; page++) {
         // Check current thread isn't interrupted
         if (Thread.interrupted()) {
           throw new InterruptedIOException();
         }
-        PdfTemplate pdfTemplate = pdfContent.createTemplate((float)pageFormat.getWidth(), 
-            (float)pageFormat.getHeight());
-        Graphics g = pdfTemplate.createGraphicsShapes((float)pageFormat.getWidth(), 
+        if (page > 0) {
+          // Start a new page, which writes the previous one to the output stream
+          pdfDocument.newPage();
+        }
+        Graphics g = pdfContent.createGraphicsShapes((float)pageFormat.getWidth(), 
             (float)pageFormat.getHeight());        
         
-        printableComponent.print(g, pageFormat, page);
-        
-        pdfContent.addTemplate(pdfTemplate, 0, 0);
+        int pageExists = printableComponent.print(g, pageFormat, page);
         g.dispose();
-        
-        if (page != pageCount - 1) {
-          pdfDocument.newPage();
+        if (pageExists == Printable.NO_SUCH_PAGE) {
+          // Clear what was drawn while searching a page after the last one
+          // to ensure the document won't end with an empty page
+          pdfContent.reset();
+          break;
         }
       }
       pdfDocument.close();
@@ -96,6 +96,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.media.j3d.Node;
@@ -166,6 +170,7 @@ import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.TableColumnModel;
 import javax.swing.text.JTextComponent;
 
+import com.eteks.sweethome3d.j3d.GLBWriter;
 import com.eteks.sweethome3d.j3d.Ground3D;
 import com.eteks.sweethome3d.j3d.OBJWriter;
 import com.eteks.sweethome3d.j3d.Object3DBranchFactory;
@@ -4855,12 +4860,12 @@ public class HomePane extends JRootPane implements HomeView {
    * Export to OBJ in a separate class to be able to run HomePane without Java 3D classes.
    */
   private static class OBJExporter {
-    public static void exportHomeToFile(Home home, String objFile, String header,
-                                        boolean exportAllToOBJ, Object3DFactory object3dFactory) throws RecorderException {
-      OBJWriter writer = null;
+    public static void exportHomeToFile(final Home home, String objFile, String header,
+                                        boolean exportAllToOBJ, final Object3DFactory object3dFactory) throws RecorderException {
+      NodeWriter writer = null;
       boolean exportInterrupted = false;
       try {
-        writer = new OBJWriter(objFile, header, -1);
+        writer = createNodeWriter(objFile, header);
 
         List<Selectable> exportedItems = new ArrayList<Selectable>(exportAllToOBJ
             ? home.getSelectableViewableItems()
@@ -4900,18 +4905,39 @@ public class HomePane extends JRootPane implements HomeView {
           }
         }
 
-        // Write 3D objects
-        int i = 0;
-        for (Selectable item : exportedItems) {
-          // Create a not alive new node to be able to explore its coordinates without setting capabilities
-          Node node = (Node)object3dFactory.createObject3D(home, item, true);
-          if (node != null) {
-            if (item instanceof HomePieceOfFurniture) {
-              writer.writeNode(node);
-            } else {
-              writer.writeNode(node, item.getClass().getSimpleName().toLowerCase() + "_" + ++i);
+        // Create 3D objects in a separate thread while the previous ones are written.
+        // Nodes are created in a single thread because 3D objects creation
+        // fills caches that aren't shared safely between several threads
+        ExecutorService nodesCreator = Executors.newSingleThreadExecutor();
+        try {
+          // Limit the count of nodes created in advance to keep memory under control
+          int maxCreatedNodes = 16;
+          List<Future<Node>> nodes = new ArrayList<Future<Node>>(exportedItems.size());
+          int i = 0;
+          for (int itemIndex = 0; itemIndex < exportedItems.size(); itemIndex++) {
+            while (nodes.size() < exportedItems.size()
+                && nodes.size() < itemIndex + maxCreatedNodes) {
+              final Selectable item = exportedItems.get(nodes.size());
+              nodes.add(nodesCreator.submit(new Callable<Node>() {
+                  public Node call() {
+                    // Create a not alive new node to be able to explore its coordinates without setting capabilities
+                    return (Node)object3dFactory.createObject3D(home, item, true);
+                  }
+                }));
+            }
+            Node node = getCreatedNode(nodes.get(itemIndex));
+            nodes.set(itemIndex, null);
+            if (node != null) {
+              Selectable item = exportedItems.get(itemIndex);
+              if (item instanceof HomePieceOfFurniture) {
+                writer.writeNode(node, null);
+              } else {
+                writer.writeNode(node, item.getClass().getSimpleName().toLowerCase() + "_" + ++i);
+              }
             }
           }
+        } finally {
+          nodesCreator.shutdownNow();
         }
       } catch (InterruptedIOException ex) {
         exportInterrupted = true;
@@ -4933,6 +4959,64 @@ public class HomePane extends JRootPane implements HomeView {
       }
     }
 
+    /**
+     * Returns a writer exporting nodes at GLB format if <code>file</code> ends with .glb extension,
+     * or at OBJ format otherwise.
+     */
+    private static NodeWriter createNodeWriter(String file, String header) throws IOException {
+      if (file.toLowerCase().endsWith(".glb")) {
+        final GLBWriter writer = new GLBWriter(file, header);
+        return new NodeWriter() {
+            public void writeNode(Node node, String nodeName) throws IOException {
+              writer.writeNode(node, nodeName);
+            }
+
+            public void close() throws IOException {
+              writer.close();
+            }
+          };
+      } else {
+        final OBJWriter writer = new OBJWriter(file, header, -1);
+        return new NodeWriter() {
+            public void writeNode(Node node, String nodeName) throws IOException {
+              writer.writeNode(node, nodeName);
+            }
+
+            public void close() throws IOException {
+              writer.close();
+            }
+          };
+      }
+    }
+
+    /**
+     * The methods used to write exported nodes in a file.
+     */
+    private static interface NodeWriter {
+      public void writeNode(Node node, String nodeName) throws IOException;
+
+      public void close() throws IOException;
+    }
+
+    /**
+     * Returns the node computed by the given <code>future</code>, once it's available.
+     */
+    private static Node getCreatedNode(Future<Node> future) throws InterruptedIOException {
+      try {
+        return future.get();
+      } catch (InterruptedException ex) {
+        throw new InterruptedIOException("Export interrupted");
+      } catch (ExecutionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException)ex.getCause();
+        } else if (ex.getCause() instanceof Error) {
+          throw (Error)ex.getCause();
+        } else {
+          throw new RuntimeException(ex.getCause());
+        }
+      }
+    }
+
     /**
      * Returns <code>home</code> bounds.
      */
@@ -126,6 +126,7 @@ public class HomePrintableComponent extends JComponent implements Printable {
   private int                  pageCount = -1;
   private Set<Integer>         printablePages = new HashSet<Integer>();
   private int                  furniturePageCount;
+  private int                  furnitureNoSuchPage = -1;
   private int                  planPageCount;
   private Date                 printDate;
   private JLabel               fixedHeaderLabel;
@@ -256,7 +257,11 @@ public class HomePrintableComponent extends JComponent implements Printable {
 
         // Retrieve variable values
         int pageNumber = page + 1;
-        int pageCount = getPageCount();
+        // Count pages only when they're displayed because counting requires to print all pages
+        int pageCount = isPageCountPrinted(homePrint.getHeaderFormat())
+                || isPageCountPrinted(homePrint.getFooterFormat())
+            ? getPageCount()
+            : 0;
         String planScale = "?";
         if (homePrint.getPlanScale() != null) {
           planScale = "1/" + Math.round(1 / homePrint.getPlanScale());
@@ -338,7 +343,9 @@ public class HomePrintableComponent extends JComponent implements Printable {
 
     View furnitureView = this.controller.getFurnitureController().getView();
     if (furnitureView != null
-        && (homePrint == null || homePrint.isFurniturePrinted())) {
+        && (homePrint == null || homePrint.isFurniturePrinted())
+        // Avoid to print furniture view again once its last page was found
+        && (this.furnitureNoSuchPage == -1 || page < this.furnitureNoSuchPage)) {
       FurnitureView filteredFurnitureView = null;
       final FurnitureView.FurnitureFilter furnitureFilter;
       if (furnitureView instanceof FurnitureView
@@ -369,6 +376,8 @@ public class HomePrintableComponent extends JComponent implements Printable {
           && !this.printablePages.contains(page)) {
         this.printablePages.add(page);
         this.furniturePageCount++;
+      } else if (pageExists == NO_SUCH_PAGE) {
+        this.furnitureNoSuchPage = page;
       }
     }
     if (pageExists == NO_SUCH_PAGE
@@ -420,6 +429,14 @@ public class HomePrintableComponent extends JComponent implements Printable {
     return pageExists;
   }
 
+  /**
+   * Returns <code>true</code> if the given header or footer <code>format</code> displays the page count.
+   */
+  private boolean isPageCountPrinted(String format) {
+    return format != null
+        && format.contains(Variable.PAGE_COUNT.getUserCode());
+  }
+
   /**
    * Returns the preferred size of this component according to paper orientation and size
    * of home print attributes.
@@ -256,11 +256,13 @@ public class FurnitureCatalogController implements Controller {
    * Deletes selected catalog furniture. 
    */
   public void deleteSelection() {
+    List<CatalogPieceOfFurniture> deletedFurniture = new ArrayList<CatalogPieceOfFurniture>();
     for (CatalogPieceOfFurniture piece : this.selectedFurniture) {
       if (piece.isModifiable()) {
-        this.catalog.delete(piece);
+        deletedFurniture.add(piece);
       }
     }
+    this.catalog.deleteAll(deletedFurniture);
   }
 
   /**
@@ -25,7 +25,9 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.undo.UndoableEditSupport;
 
@@ -398,9 +400,14 @@ public class HomeController3D implements Controller {
     private boolean     aerialViewCenteredOnSelectionEnabled;
     private boolean     previousSelectionEmpty;
     private float       distanceToCenterWithSelection = -1;
+    // Bounds of displayed items cached per level, rebuilt when null
+    private Map<Level, LevelBounds>                       levelsBounds;
+    private Map<Selectable, LevelBounds>                  itemsLevelBounds;
+    private Map<HomePieceOfFurniture, HomeFurnitureGroup> piecesGroups;
 
     private PropertyChangeListener objectChangeListener = new PropertyChangeListener() {
         public void propertyChange(PropertyChangeEvent ev) {
+          updateItemBounds(ev.getSource(), ev.getPropertyName());
           updateCameraFromHomeBounds(false, false);
         }
       };
@@ -411,6 +418,7 @@ public class HomeController3D implements Controller {
           } else if (ev.getType() == CollectionEvent.Type.DELETE) {
             ev.getItem().removePropertyChangeListener(objectChangeListener);
           }
+          levelsBounds = null;
           updateCameraFromHomeBounds(false, false);
         }
       };
@@ -418,8 +426,11 @@ public class HomeController3D implements Controller {
         public void collectionChanged(CollectionEvent<Wall> ev) {
           if (ev.getType() == CollectionEvent.Type.ADD) {
             ev.getItem().addPropertyChangeListener(objectChangeListener);
+            updateWallBounds(ev.getItem());
           } else if (ev.getType() == CollectionEvent.Type.DELETE) {
             ev.getItem().removePropertyChangeListener(objectChangeListener);
+            removeItemBounds(ev.getItem());
+            updateJoinedWallsBounds(ev.getItem());
           }
           updateCameraFromHomeBounds(false, false);
         }
@@ -428,11 +439,23 @@ public class HomeController3D implements Controller {
         public void collectionChanged(CollectionEvent<HomePieceOfFurniture> ev) {
           if (ev.getType() == CollectionEvent.Type.ADD) {
             addPropertyChangeListener(ev.getItem(), objectChangeListener);
+            if (ev.getIndex() == -1) {
+              // Piece added to a group
+              levelsBounds = null;
+            } else {
+              addItemBounds(ev.getItem());
+            }
             updateCameraFromHomeBounds(home.getFurniture().size() == 1
                 && home.getWalls().isEmpty()
                 && home.getRooms().isEmpty(), false);
           } else if (ev.getType() == CollectionEvent.Type.DELETE) {
             removePropertyChangeListener(ev.getItem(), objectChangeListener);
+            if (ev.getIndex() == -1) {
+              // Piece removed from a group
+              levelsBounds = null;
+            } else {
+              removeItemBounds(ev.getItem());
+            }
             updateCameraFromHomeBounds(false, false);
           }
         }
@@ -441,8 +464,10 @@ public class HomeController3D implements Controller {
         public void collectionChanged(CollectionEvent<Room> ev) {
           if (ev.getType() == CollectionEvent.Type.ADD) {
             ev.getItem().addPropertyChangeListener(objectChangeListener);
+            addItemBounds(ev.getItem());
           } else if (ev.getType() == CollectionEvent.Type.DELETE) {
             ev.getItem().removePropertyChangeListener(objectChangeListener);
+            removeItemBounds(ev.getItem());
           }
           updateCameraFromHomeBounds(false, false);
         }
@@ -451,8 +476,10 @@ public class HomeController3D implements Controller {
         public void collectionChanged(CollectionEvent<Polyline> ev) {
           if (ev.getType() == CollectionEvent.Type.ADD) {
             ev.getItem().addPropertyChangeListener(objectChangeListener);
+            addItemBounds(ev.getItem());
           } else if (ev.getType() == CollectionEvent.Type.DELETE) {
             ev.getItem().removePropertyChangeListener(objectChangeListener);
+            removeItemBounds(ev.getItem());
           }
           updateCameraFromHomeBounds(false, false);
         }
@@ -461,8 +488,10 @@ public class HomeController3D implements Controller {
         public void collectionChanged(CollectionEvent<Label> ev) {
           if (ev.getType() == CollectionEvent.Type.ADD) {
             ev.getItem().addPropertyChangeListener(objectChangeListener);
+            addItemBounds(ev.getItem());
           } else if (ev.getType() == CollectionEvent.Type.DELETE) {
             ev.getItem().removePropertyChangeListener(objectChangeListener);
+            removeItemBounds(ev.getItem());
           }
           updateCameraFromHomeBounds(false, false);
         }
@@ -482,6 +511,8 @@ public class HomeController3D implements Controller {
 
     private void addPropertyChangeListener(HomePieceOfFurniture piece, PropertyChangeListener listener) {
       if (piece instanceof HomeFurnitureGroup) {
+        // Listen to the group too because it's updated after its children when it's modified
+        piece.addPropertyChangeListener(listener);
         for (HomePieceOfFurniture child : ((HomeFurnitureGroup)piece).getFurniture()) {
           addPropertyChangeListener(child, listener);
         }
@@ -492,6 +523,7 @@ public class HomeController3D implements Controller {
 
     private void removePropertyChangeListener(HomePieceOfFurniture piece, PropertyChangeListener listener) {
       if (piece instanceof HomeFurnitureGroup) {
+        piece.removePropertyChangeListener(listener);
         for (HomePieceOfFurniture child : ((HomeFurnitureGroup)piece).getFurniture()) {
           removePropertyChangeListener(child, listener);
         }
@@ -600,110 +632,23 @@ public class HomeController3D implements Controller {
 
       // Compute plan bounds to include rooms, walls and furniture
       boolean containsVisibleWalls = false;
-      for (Wall wall : selectionEmpty
-                           ? home.getWalls()
-                           : Home.getWallsSubList(selectedItems)) {
-        if (isItemAtVisibleLevel(wall)) {
-          containsVisibleWalls = true;
-
-          float wallElevation = wall.getLevel() != null
-              ? wall.getLevel().getElevation()
-              : 0;
-          float minZ = selectionEmpty
-              ? 0
-              : wallElevation;
-
-          Float height = wall.getHeight();
-          float maxZ;
-          if (height != null) {
-            maxZ = wallElevation + height;
-          } else {
-            maxZ = wallElevation + home.getWallHeight();
-          }
-          Float heightAtEnd = wall.getHeightAtEnd();
-          if (heightAtEnd != null) {
-            maxZ = Math.max(maxZ, wallElevation + heightAtEnd);
-          }
-          for (float [] point : wall.getPoints()) {
-            updateAerialViewBounds(point [0], point [1], minZ, maxZ);
-          }
-        }
-      }
-
-      for (HomePieceOfFurniture piece : selectionEmpty
-                                            ? home.getFurniture()
-                                            : Home.getFurnitureSubList(selectedItems)) {
-        if (piece.isVisible() && isItemAtVisibleLevel(piece)) {
-          float minZ;
-          float maxZ;
-          if (selectionEmpty) {
-            minZ = Math.max(0, piece.getGroundElevation());
-            maxZ = Math.max(0, piece.getGroundElevation() + piece.getHeightInPlan());
-          } else {
-            minZ = piece.getGroundElevation();
-            maxZ = piece.getGroundElevation() + piece.getHeightInPlan();
-          }
-          for (float [] point : piece.getPoints()) {
-            updateAerialViewBounds(point [0], point [1], minZ, maxZ);
-          }
-        }
-      }
-
-      for (Room room : selectionEmpty
-                           ? home.getRooms()
-                           : Home.getRoomsSubList(selectedItems)) {
-        if (isItemAtVisibleLevel(room)) {
-          float minZ = 0;
-          float maxZ = MIN_HEIGHT;
-          Level roomLevel = room.getLevel();
-          if (roomLevel != null) {
-            minZ = roomLevel.getElevation() - roomLevel.getFloorThickness();
-            maxZ = roomLevel.getElevation();
-            if (selectionEmpty) {
-              minZ = Math.max(0, minZ);
-              maxZ = Math.max(MIN_HEIGHT, roomLevel.getElevation());
-            }
-          }
-          for (float [] point : room.getPoints()) {
-            updateAerialViewBounds(point [0], point [1], minZ, maxZ);
-          }
-        }
-      }
-
-      for (Polyline polyline : selectionEmpty
-                ? home.getPolylines()
-                : Home.getPolylinesSubList(selectedItems)) {
-        if (polyline.isVisibleIn3D() && isItemAtVisibleLevel(polyline)) {
-          float minZ;
-          float maxZ;
-          if (selectionEmpty) {
-            minZ = Math.max(0, polyline.getGroundElevation());
-            maxZ = Math.max(MIN_HEIGHT, polyline.getGroundElevation());
-          } else {
-            minZ =
-            maxZ = polyline.getGroundElevation();
-          }
-          for (float [] point : polyline.getPoints()) {
-            updateAerialViewBounds(point [0], point [1], minZ, maxZ);
+      if (selectionEmpty) {
+        for (Map.Entry<Level, LevelBounds> entry : getLevelsBounds().entrySet()) {
+          Level level = entry.getKey();
+          float [] bounds = entry.getValue().getBounds();
+          if (bounds != null
+              && (level == null || level.isViewableAndVisible())) {
+            containsVisibleWalls |= entry.getValue().containsWalls();
+            updateAerialViewBounds(bounds [0], bounds [1], bounds [2], bounds [5]);
+            updateAerialViewBounds(bounds [3], bounds [4], bounds [2], bounds [5]);
           }
         }
-      }
-
-      for (Label label : selectionEmpty
-                             ? home.getLabels()
-                             : Home.getLabelsSubList(selectedItems)) {
-        if (label.getPitch() != null && isItemAtVisibleLevel(label)) {
-          float minZ;
-          float maxZ;
-          if (selectionEmpty) {
-            minZ = Math.max(0, label.getGroundElevation());
-            maxZ = Math.max(MIN_HEIGHT, label.getGroundElevation());
-          } else {
-            minZ =
-            maxZ = label.getGroundElevation();
-          }
-          for (float [] point : label.getPoints()) {
-            updateAerialViewBounds(point [0], point [1], minZ, maxZ);
+      } else {
+        for (Selectable item : selectedItems) {
+          float [] bounds = getItemBounds(item, false);
+          if (bounds != null) {
+            updateAerialViewBounds(bounds [0], bounds [1], bounds [2], bounds [5]);
+            updateAerialViewBounds(bounds [3], bounds [4], bounds [2], bounds [5]);
           }
         }
       }
@@ -728,6 +673,233 @@ public class HomeController3D implements Controller {
       }
     }
 
+    /**
+     * Returns the bounds of the given <code>item</code> in an array containing its minimum x, y, z
+     * followed by its maximum x, y, z, or <code>null</code> if it's not displayed in aerial view.
+     */
+    private float [] getItemBounds(Selectable item, boolean selectionEmpty) {
+      float minZ;
+      float maxZ;
+      if (item instanceof Wall) {
+        Wall wall = (Wall)item;
+        float wallElevation = wall.getLevel() != null
+            ? wall.getLevel().getElevation()
+            : 0;
+        minZ = selectionEmpty
+            ? 0
+            : wallElevation;
+        Float height = wall.getHeight();
+        if (height != null) {
+          maxZ = wallElevation + height;
+        } else {
+          maxZ = wallElevation + home.getWallHeight();
+        }
+        Float heightAtEnd = wall.getHeightAtEnd();
+        if (heightAtEnd != null) {
+          maxZ = Math.max(maxZ, wallElevation + heightAtEnd);
+        }
+      } else if (item instanceof HomePieceOfFurniture) {
+        HomePieceOfFurniture piece = (HomePieceOfFurniture)item;
+        if (!piece.isVisible()) {
+          return null;
+        }
+        if (selectionEmpty) {
+          minZ = Math.max(0, piece.getGroundElevation());
+          maxZ = Math.max(0, piece.getGroundElevation() + piece.getHeightInPlan());
+        } else {
+          minZ = piece.getGroundElevation();
+          maxZ = piece.getGroundElevation() + piece.getHeightInPlan();
+        }
+      } else if (item instanceof Room) {
+        minZ = 0;
+        maxZ = MIN_HEIGHT;
+        Level roomLevel = ((Room)item).getLevel();
+        if (roomLevel != null) {
+          minZ = roomLevel.getElevation() - roomLevel.getFloorThickness();
+          maxZ = roomLevel.getElevation();
+          if (selectionEmpty) {
+            minZ = Math.max(0, minZ);
+            maxZ = Math.max(MIN_HEIGHT, roomLevel.getElevation());
+          }
+        }
+      } else if (item instanceof Polyline) {
+        Polyline polyline = (Polyline)item;
+        if (!polyline.isVisibleIn3D()) {
+          return null;
+        }
+        if (selectionEmpty) {
+          minZ = Math.max(0, polyline.getGroundElevation());
+          maxZ = Math.max(MIN_HEIGHT, polyline.getGroundElevation());
+        } else {
+          minZ =
+          maxZ = polyline.getGroundElevation();
+        }
+      } else if (item instanceof Label) {
+        Label label = (Label)item;
+        if (label.getPitch() == null) {
+          return null;
+        }
+        if (selectionEmpty) {
+          minZ = Math.max(0, label.getGroundElevation());
+          maxZ = Math.max(MIN_HEIGHT, label.getGroundElevation());
+        } else {
+          minZ =
+          maxZ = label.getGroundElevation();
+        }
+      } else {
+        return null;
+      }
+
+      float [][] points = item.getPoints();
+      if (points.length == 0) {
+        return null;
+      }
+      float [] bounds = {points [0][0], points [0][1], minZ, points [0][0], points [0][1], maxZ};
+      for (int i = 1; i < points.length; i++) {
+        bounds [0] = Math.min(bounds [0], points [i][0]);
+        bounds [1] = Math.min(bounds [1], points [i][1]);
+        bounds [3] = Math.max(bounds [3], points [i][0]);
+        bounds [4] = Math.max(bounds [4], points [i][1]);
+      }
+      return bounds;
+    }
+
+    /**
+     * Returns the bounds of the items displayed at each level, computing them if they were reset.
+     */
+    private Map<Level, LevelBounds> getLevelsBounds() {
+      if (this.levelsBounds == null) {
+        this.levelsBounds = new IdentityHashMap<Level, LevelBounds>();
+        this.itemsLevelBounds = new IdentityHashMap<Selectable, LevelBounds>();
+        this.piecesGroups = new IdentityHashMap<HomePieceOfFurniture, HomeFurnitureGroup>();
+        for (Wall wall : home.getWalls()) {
+          addItemBounds(wall);
+        }
+        for (HomePieceOfFurniture piece : home.getFurniture()) {
+          addItemBounds(piece);
+        }
+        for (Room room : home.getRooms()) {
+          addItemBounds(room);
+        }
+        for (Polyline polyline : home.getPolylines()) {
+          addItemBounds(polyline);
+        }
+        for (Label label : home.getLabels()) {
+          addItemBounds(label);
+        }
+      }
+      return this.levelsBounds;
+    }
+
+    /**
+     * Adds the bounds of the given home <code>item</code> to the bounds of its level.
+     */
+    private void addItemBounds(Selectable item) {
+      if (this.levelsBounds != null) {
+        if (item instanceof HomeFurnitureGroup) {
+          updatePiecesGroup((HomeFurnitureGroup)item, ((HomeFurnitureGroup)item).getFurniture(), true);
+        }
+        updateItemBounds(item);
+      }
+    }
+
+    /**
+     * Removes the bounds of the given home <code>item</code> from the bounds of its level.
+     */
+    private void removeItemBounds(Selectable item) {
+      if (this.levelsBounds != null) {
+        LevelBounds levelBounds = this.itemsLevelBounds.remove(item);
+        if (levelBounds != null) {
+          levelBounds.remove(item);
+        }
+        if (item instanceof HomeFurnitureGroup) {
+          updatePiecesGroup((HomeFurnitureGroup)item, ((HomeFurnitureGroup)item).getFurniture(), false);
+        }
+      }
+    }
+
+    /**
+     * Associates or dissociates the given <code>furniture</code> and its children to the top level <code>group</code>
+     * which bounds should be updated when they're modified.
+     */
+    private void updatePiecesGroup(HomeFurnitureGroup group, List<HomePieceOfFurniture> furniture, boolean add) {
+      for (HomePieceOfFurniture piece : furniture) {
+        if (add) {
+          this.piecesGroups.put(piece, group);
+        } else {
+          this.piecesGroups.remove(piece);
+        }
+        if (piece instanceof HomeFurnitureGroup) {
+          updatePiecesGroup(group, ((HomeFurnitureGroup)piece).getFurniture(), add);
+        }
+      }
+    }
+
+    /**
+     * Updates the bounds of the item that fired a change of the given property.
+     */
+    private void updateItemBounds(Object source, String propertyName) {
+      if (this.levelsBounds != null) {
+        if (source instanceof Level) {
+          if (Level.Property.ELEVATION.name().equals(propertyName)
+              || Level.Property.FLOOR_THICKNESS.name().equals(propertyName)) {
+            // Elevation of all the items at this level changed
+            this.levelsBounds = null;
+          }
+        } else if (source instanceof Wall) {
+          updateWallBounds((Wall)source);
+        } else {
+          HomeFurnitureGroup group = this.piecesGroups.get(source);
+          updateItemBounds(group != null
+              ? group
+              : (Selectable)source);
+        }
+      }
+    }
+
+    /**
+     * Updates the bounds of the given <code>wall</code> and of the walls joined to it
+     * which points may depend on it.
+     */
+    private void updateWallBounds(Wall wall) {
+      if (this.levelsBounds != null) {
+        updateItemBounds(wall);
+        updateJoinedWallsBounds(wall);
+      }
+    }
+
+    /**
+     * Updates the bounds of the walls joined to the given <code>wall</code>.
+     */
+    private void updateJoinedWallsBounds(Wall wall) {
+      if (this.levelsBounds != null) {
+        for (Wall joinedWall : new Wall [] {wall.getWallAtStart(), wall.getWallAtEnd()}) {
+          if (joinedWall != null
+              && this.itemsLevelBounds.containsKey(joinedWall)) {
+            updateItemBounds(joinedWall);
+          }
+        }
+      }
+    }
+
+    /**
+     * Computes the bounds of the given <code>item</code> and stores them in the bounds of its level.
+     */
+    private void updateItemBounds(Selectable item) {
+      Level level = ((Elevatable)item).getLevel();
+      LevelBounds levelBounds = this.levelsBounds.get(level);
+      if (levelBounds == null) {
+        levelBounds = new LevelBounds();
+        this.levelsBounds.put(level, levelBounds);
+      }
+      LevelBounds oldLevelBounds = this.itemsLevelBounds.put(item, levelBounds);
+      if (oldLevelBounds != null
+          && oldLevelBounds != levelBounds) {
+        oldLevelBounds.remove(item);
+      }
+      levelBounds.put(item, getItemBounds(item, true));
+    }
+
     /**
      * Adds the point at the given coordinates to aerial view bounds.
      */
@@ -834,6 +1006,7 @@ public class HomeController3D implements Controller {
     @Override
     public void exit() {
       this.topCamera = null;
+      this.levelsBounds = null;
       for (Wall wall : home.getWalls()) {
         wall.removePropertyChangeListener(this.objectChangeListener);
       }
@@ -864,6 +1037,102 @@ public class HomeController3D implements Controller {
     }
   }
 
+  /**
+   * Bounds of the items displayed at a level in aerial view. These bounds are updated
+   * incrementally, and computed again only once an item at their limits moved inward or was removed.
+   */
+  private static class LevelBounds {
+    private final Map<Selectable, float []> itemsBounds = new IdentityHashMap<Selectable, float []>();
+    private float [] bounds;
+    private int      wallCount;
+
+    /**
+     * Sets the bounds of the given <code>item</code>, or removes it if <code>itemBounds</code> is <code>null</code>.
+     */
+    public void put(Selectable item, float [] itemBounds) {
+      if (itemBounds == null) {
+        remove(item);
+      } else {
+        float [] oldItemBounds = this.itemsBounds.put(item, itemBounds);
+        if (oldItemBounds == null
+            && item instanceof Wall) {
+          this.wallCount++;
+        }
+        if (this.bounds != null) {
+          if (oldItemBounds != null
+              && isShrunk(oldItemBounds, itemBounds)) {
+            this.bounds = null;
+          } else {
+            for (int i = 0; i < 3; i++) {
+              this.bounds [i] = Math.min(this.bounds [i], itemBounds [i]);
+              this.bounds [i + 3] = Math.max(this.bounds [i + 3], itemBounds [i + 3]);
+            }
+          }
+        }
+      }
+    }
+
+    /**
+     * Removes the bounds of the given <code>item</code>.
+     */
+    public void remove(Selectable item) {
+      float [] oldItemBounds = this.itemsBounds.remove(item);
+      if (oldItemBounds != null) {
+        if (item instanceof Wall) {
+          this.wallCount--;
+        }
+        if (this.bounds != null
+            && isShrunk(oldItemBounds, null)) {
+          this.bounds = null;
+        }
+      }
+    }
+
+    /**
+     * Returns <code>true</code> if an extremum of <code>oldItemBounds</code> defines a limit
+     * of these bounds and isn't reached anymore by <code>newItemBounds</code>.
+     */
+    private boolean isShrunk(float [] oldItemBounds, float [] newItemBounds) {
+      for (int i = 0; i < 3; i++) {
+        if (oldItemBounds [i] == this.bounds [i]
+            && (newItemBounds == null || newItemBounds [i] > oldItemBounds [i])
+            || oldItemBounds [i + 3] == this.bounds [i + 3]
+               && (newItemBounds == null || newItemBounds [i + 3] < oldItemBounds [i + 3])) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Returns the minimum x, y, z followed by the maximum x, y, z of the items at this level,
+     * or <code>null</code> if there's no item.
+     */
+    public float [] getBounds() {
+      if (this.bounds == null
+          && !this.itemsBounds.isEmpty()) {
+        for (float [] itemBounds : this.itemsBounds.values()) {
+          if (this.bounds == null) {
+            this.bounds = itemBounds.clone();
+          } else {
+            for (int i = 0; i < 3; i++) {
+              this.bounds [i] = Math.min(this.bounds [i], itemBounds [i]);
+              this.bounds [i + 3] = Math.max(this.bounds [i + 3], itemBounds [i + 3]);
+            }
+          }
+        }
+      }
+      return this.bounds;
+    }
+
+    /**
+     * Returns <code>true</code> if this level contains walls.
+     */
+    public boolean containsWalls() {
+      return this.wallCount > 0;
+    }
+  }
+
   /**
    * Preferences property listener bound to top camera state with a weak reference to avoid
    * strong link between user preferences and top camera state.
@@ -35,9 +35,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import javax.swing.undo.AbstractUndoableEdit;
@@ -188,6 +190,7 @@ public class PlanController extends FurnitureController implements Controller {
   private Area                            wallsIncludingBaseboardsAreaCache;
   private Area                            insideWallsAreaCache;
   private List<GeneralPath>               roomPathsCache;
+  private List<Rectangle2D>               roomPathsBoundsCache;
   private Map<HomePieceOfFurniture, Area> furnitureSidesCache;
   private List<Selectable>                draggedItems;
 
@@ -2484,6 +2487,7 @@ public class PlanController extends FurnitureController implements Controller {
     wallsIncludingBaseboardsAreaCache = null;
     insideWallsAreaCache = null;
     roomPathsCache = null;
+    roomPathsBoundsCache = null;
   }
 
   /**
@@ -5194,8 +5198,12 @@ public class PlanController extends FurnitureController implements Controller {
     List<Room> homeRooms = this.home.getRooms();
     // Sort the deleted rooms in the ascending order of their index in home
     Map<Integer, Room> sortedMap = new TreeMap<Integer, Room>();
-    for (Room room : deletedRooms) {
-      sortedMap.put(homeRooms.indexOf(room), room);
+    Set<Room> deletedRoomsSet = new HashSet<Room>(deletedRooms);
+    for (int i = 0; i < homeRooms.size(); i++) {
+      Room room = homeRooms.get(i);
+      if (deletedRoomsSet.contains(room)) {
+        sortedMap.put(i, room);
+      }
     }
     final Room [] rooms = sortedMap.values().toArray(new Room [sortedMap.size()]);
     final int [] roomsIndices = new int [rooms.length];
@@ -5221,8 +5229,12 @@ public class PlanController extends FurnitureController implements Controller {
     List<Polyline> homePolylines = this.home.getPolylines();
     // Sort the deleted polylines in the ascending order of their index in home
     Map<Integer, Polyline> sortedPolylinesMap = new TreeMap<Integer, Polyline>();
-    for (Polyline polyline : deletedPolylines) {
-      sortedPolylinesMap.put(homePolylines.indexOf(polyline), polyline);
+    Set<Polyline> deletedPolylinesSet = new HashSet<Polyline>(deletedPolylines);
+    for (i = 0; i < homePolylines.size(); i++) {
+      Polyline polyline = homePolylines.get(i);
+      if (deletedPolylinesSet.contains(polyline)) {
+        sortedPolylinesMap.put(i, polyline);
+      }
     }
     final Polyline [] polylines = sortedPolylinesMap.values().toArray(new Polyline [sortedPolylinesMap.size()]);
     final int [] polylinesIndices = new int [polylines.length];
@@ -5373,20 +5385,27 @@ public class PlanController extends FurnitureController implements Controller {
    * Moves <code>items</code> of (<code>dx</code>, <code>dy</code>) units.
    */
   public void moveItems(List<? extends Selectable> items, float dx, float dy) {
+    // Move walls first with a set of the moved walls to check quickly joined walls
+    List<Wall> walls = Home.getWallsSubList(items);
+    Set<Wall> movedWalls = new HashSet<Wall>(walls);
+    for (Wall wall : walls) {
+      // Remove temporarily listener to avoid side effect
+      wall.removePropertyChangeListener(this.wallChangeListener);
+      moveWallStartPoint(wall,
+          wall.getXStart() + dx, wall.getYStart() + dy,
+          !movedWalls.contains(wall.getWallAtStart()));
+      moveWallEndPoint(wall,
+          wall.getXEnd() + dx, wall.getYEnd() + dy,
+          !movedWalls.contains(wall.getWallAtEnd()));
+      wall.addPropertyChangeListener(this.wallChangeListener);
+    }
+    if (!movedWalls.isEmpty()) {
+      // Reset walls area once all the walls are moved
+      resetAreaCache();
+    }
+
     for (Selectable item : items) {
-      if (item instanceof Wall) {
-        Wall wall = (Wall)item;
-        // Remove temporarily listener to avoid side effect
-        wall.removePropertyChangeListener(this.wallChangeListener);
-        moveWallStartPoint(wall,
-            wall.getXStart() + dx, wall.getYStart() + dy,
-            !items.contains(wall.getWallAtStart()));
-        moveWallEndPoint(wall,
-            wall.getXEnd() + dx, wall.getYEnd() + dy,
-            !items.contains(wall.getWallAtEnd()));
-        resetAreaCache();
-        wall.addPropertyChangeListener(this.wallChangeListener);
-      } else {
+      if (!(item instanceof Wall)) {
         boolean boundToWall = false;
         if (item instanceof HomeDoorOrWindow) {
           boundToWall = ((HomeDoorOrWindow)item).isBoundToWall();
@@ -7736,17 +7755,61 @@ public class PlanController extends FurnitureController implements Controller {
       // Iterate over all the paths the walls area contains
       Area wallsArea = getWallsArea(false);
       List<GeneralPath> roomPaths = getAreaPaths(wallsArea);
-      Area insideWallsArea = new Area(wallsArea);
+      List<Rectangle2D> roomPathsBounds = new ArrayList<Rectangle2D>(roomPaths.size());
+      List<Area> insideWallsAreas = new ArrayList<Area>(roomPaths.size() + 1);
+      insideWallsAreas.add(new Area(wallsArea));
       for (GeneralPath roomPath : roomPaths) {
-        insideWallsArea.add(new Area(roomPath));
+        roomPathsBounds.add(roomPath.getBounds2D());
+        insideWallsAreas.add(new Area(roomPath));
       }
 
       this.roomPathsCache = roomPaths;
-      this.insideWallsAreaCache = insideWallsArea;
+      this.roomPathsBoundsCache = roomPathsBounds;
+      this.insideWallsAreaCache = getUnionArea(insideWallsAreas);
     }
     return this.roomPathsCache;
   }
 
+  /**
+   * Returns the closed paths that may define rooms from the current set of home walls
+   * and which bounds contain the point at (<code>x</code>, <code>y</code>), in the same order
+   * as the ones returned by {@link #getRoomPathsFromWalls()}.
+   */
+  private List<GeneralPath> getRoomPathsFromWallsAround(float x, float y) {
+    List<GeneralPath> roomPaths = getRoomPathsFromWalls();
+    List<GeneralPath> roomPathsAroundPoint = new ArrayList<GeneralPath>();
+    for (int i = 0; i < roomPaths.size(); i++) {
+      if (this.roomPathsBoundsCache.get(i).contains(x, y)) {
+        roomPathsAroundPoint.add(roomPaths.get(i));
+      }
+    }
+    return roomPathsAroundPoint;
+  }
+
+  /**
+   * Returns the union of the given <code>areas</code>, computed by merging them two by two
+   * rather than adding them one after the other to an area that becomes more and more complex.
+   * The areas of the list may be modified by this method.
+   */
+  private Area getUnionArea(List<Area> areas) {
+    if (areas.isEmpty()) {
+      return new Area();
+    }
+    List<Area> mergedAreas = areas;
+    while (mergedAreas.size() > 1) {
+      List<Area> nextMergedAreas = new ArrayList<Area>((mergedAreas.size() + 1) / 2);
+      for (int i = 0; i < mergedAreas.size(); i += 2) {
+        Area area = mergedAreas.get(i);
+        if (i + 1 < mergedAreas.size()) {
+          area.add(mergedAreas.get(i + 1));
+        }
+        nextMergedAreas.add(area);
+      }
+      mergedAreas = nextMergedAreas;
+    }
+    return mergedAreas.get(0);
+  }
+
   /**
    * Returns the paths described by the given <code>area</code>.
    */
@@ -7789,13 +7852,14 @@ public class PlanController extends FurnitureController implements Controller {
     if (!includeBaseboards && this.wallsAreaCache == null
         || includeBaseboards && this.wallsIncludingBaseboardsAreaCache == null) {
       // Compute walls area
-      Area wallsArea = new Area();
+      List<Area> wallAreas = new ArrayList<Area>();
       Level selectedLevel = this.home.getSelectedLevel();
       for (Wall wall : this.home.getWalls()) {
         if (wall.isAtLevel(selectedLevel)) {
-          wallsArea.add(new Area(getPath(wall.getPoints(includeBaseboards))));
+          wallAreas.add(new Area(getPath(wall.getPoints(includeBaseboards))));
         }
       }
+      Area wallsArea = getUnionArea(wallAreas);
       if (includeBaseboards) {
         this.wallsIncludingBaseboardsAreaCache = wallsArea;
       } else {
@@ -12990,7 +13054,8 @@ public class PlanController extends FurnitureController implements Controller {
      * coordinates or <code>null</code> if there's no closed path at this point.
      */
     private Room createRoomAt(float x, float y) {
-      for (GeneralPath roomPath : getRoomPathsFromWalls()) {
+      // Test only paths which bounds contain (x, y) to avoid checking the points of all paths
+      for (GeneralPath roomPath : getRoomPathsFromWallsAround(x, y)) {
         if (roomPath.contains(x, y)) {
           // Add to roomPath the doorstep between the room border and the middle of the doors and windows
           // with an elevation equal to zero that intersects with roomPath
@@ -22,6 +22,7 @@ package com.eteks.sweethome3d.junit;
 
 import java.awt.Component;
 import java.text.Collator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
@@ -37,6 +38,8 @@ import junit.framework.TestCase;
 
 import com.eteks.sweethome3d.io.DefaultFurnitureCatalog;
 import com.eteks.sweethome3d.model.CatalogPieceOfFurniture;
+import com.eteks.sweethome3d.model.CollectionEvent;
+import com.eteks.sweethome3d.model.CollectionListener;
 import com.eteks.sweethome3d.model.FurnitureCatalog;
 import com.eteks.sweethome3d.model.FurnitureCategory;
 import com.eteks.sweethome3d.swing.FurnitureCatalogTree;
@@ -85,6 +88,48 @@ public class CatalogTreeTest extends TestCase {
     assertTreeIsSorted(tree);
   }
   
+  public void testCatalogTreeBulkUpdate() {
+    Locale.setDefault(Locale.US);
+    FurnitureCatalog catalog = new DefaultFurnitureCatalog();
+    JTree tree = new FurnitureCatalogTree(catalog);
+    TreeModel model = tree.getModel();
+    final List<CollectionEvent.Type> eventTypes = new ArrayList<CollectionEvent.Type>();
+    catalog.addFurnitureListener(new CollectionListener<CatalogPieceOfFurniture>() {
+        public void collectionChanged(CollectionEvent<CatalogPieceOfFurniture> ev) {
+          eventTypes.add(ev.getType());
+        }
+      });
+
+    // 1. Delete all the furniture of the catalog at once
+    List<CatalogPieceOfFurniture> furniture = new ArrayList<CatalogPieceOfFurniture>();
+    for (FurnitureCategory category : catalog.getCategories()) {
+      furniture.addAll(category.getFurniture());
+    }
+    catalog.deleteAll(furniture);
+    // Check catalog and tree are empty and that listener was notified for each piece
+    assertEquals("Catalog not empty", 0, catalog.getCategoriesCount());
+    assertEquals("Tree not empty", 0, model.getChildCount(model.getRoot()));
+    assertEquals("Wrong deletion notifications count", furniture.size(), eventTypes.size());
+
+    // 2. Add French furniture to the catalog, category by category
+    eventTypes.clear();
+    Locale.setDefault(Locale.FRENCH);
+    FurnitureCatalog frenchCatalog = new DefaultFurnitureCatalog();
+    int frenchFurnitureCount = 0;
+    for (FurnitureCategory category : frenchCatalog.getCategories()) {
+      catalog.addAll(category, category.getFurniture());
+      frenchFurnitureCount += category.getFurnitureCount();
+    }
+    // Check catalog contains the same furniture and the tree is sorted
+    assertEquals("Wrong categories count", frenchCatalog.getCategoriesCount(), catalog.getCategoriesCount());
+    assertEquals("Wrong addition notifications count", frenchFurnitureCount, eventTypes.size());
+    for (int i = 0; i < catalog.getCategoriesCount(); i++) {
+      assertEquals("Wrong furniture count", frenchCatalog.getCategory(i).getFurnitureCount(),
+          catalog.getCategory(i).getFurnitureCount());
+    }
+    assertTreeIsSorted(tree);
+  }
+
   public void assertTreeIsSorted(JTree tree) {
     TreeModel model = tree.getModel();
     Object    root  = model.getRoot();
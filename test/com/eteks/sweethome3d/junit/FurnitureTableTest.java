@@ -21,8 +21,10 @@
 package com.eteks.sweethome3d.junit;
 
 import java.awt.Component;
+import java.math.BigDecimal;
 import java.text.Collator;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -42,6 +44,7 @@ import com.eteks.sweethome3d.model.CatalogPieceOfFurniture;
 import com.eteks.sweethome3d.model.FurnitureCatalog;
 import com.eteks.sweethome3d.model.FurnitureCategory;
 import com.eteks.sweethome3d.model.Home;
+import com.eteks.sweethome3d.model.HomeFurnitureGroup;
 import com.eteks.sweethome3d.model.HomePieceOfFurniture;
 import com.eteks.sweethome3d.model.LengthUnit;
 import com.eteks.sweethome3d.model.UserPreferences;
@@ -157,6 +160,42 @@ public class FurnitureTableTest extends TestCase {
     firstPiece.setName("Aaaa");
     // Check table data is sorted in alphabetical descending order
     assertFurnitureIsSortedByName(table, false);
+
+    // 6. Change the name of a piece in the middle of the table and its width
+    HomePieceOfFurniture middlePiece = (HomePieceOfFurniture)table.getValueAt(table.getRowCount() / 2, 0);
+    middlePiece.setName("Zzzz");
+    middlePiece.setWidth(middlePiece.getWidth() * 2);
+    // Check the piece moved to the first row and table data is still sorted
+    assertSame("Piece not moved", middlePiece, table.getValueAt(0, 0));
+    assertEquals("Wrong row count in table", home.getFurniture().size(), table.getRowCount());
+    assertFurnitureIsSortedByName(table, false);
+  }
+
+  /**
+   * Tests the row of a collapsed group is sorted again when one of its children is modified.
+   */
+  public void testFurnitureTableGroupSort() {
+    UserPreferences preferences = new DefaultUserPreferences();
+    CatalogPieceOfFurniture box = new CatalogPieceOfFurniture("Box", null, null, 50, 40, 30, true, false);
+    HomePieceOfFurniture pieceA = new HomePieceOfFurniture(box);
+    pieceA.setPrice(new BigDecimal("10"));
+    HomePieceOfFurniture pieceB = new HomePieceOfFurniture(box);
+    pieceB.setPrice(new BigDecimal("20"));
+    HomePieceOfFurniture child = new HomePieceOfFurniture(box);
+    child.setPrice(new BigDecimal("5"));
+    HomeFurnitureGroup group = new HomeFurnitureGroup(Arrays.asList(new HomePieceOfFurniture [] {child}), "Group");
+    Home home = new Home(Arrays.asList(new HomePieceOfFurniture [] {pieceA, pieceB, group}));
+    FurnitureController furnitureController =
+        new FurnitureController(home, preferences, new SwingViewFactory());
+    FurnitureTable table = SwingTools.findChildren((JComponent)furnitureController.getView(), FurnitureTable.class).get(0);
+
+    furnitureController.sortFurniture(HomePieceOfFurniture.SortableProperty.PRICE_VALUE_ADDED_TAX_INCLUDED);
+    assertSame("Group not first", group, table.getValueAt(0, 0));
+    // Change the price of the piece in the collapsed group
+    child.setPrice(new BigDecimal("30"));
+    assertSame("Wrong first row", pieceA, table.getValueAt(0, 0));
+    assertSame("Wrong second row", pieceB, table.getValueAt(1, 0));
+    assertSame("Group not last", group, table.getValueAt(2, 0));
   }
 
   private void assertFurnitureIsSortedByName(JTable table,
@@ -242,6 +281,10 @@ public class FurnitureTableTest extends TestCase {
     assertEquals("Wrong furniture count in home", homeFurnitureCount + 4, home.getFurniture().size());
     assertEquals("Wrong row count in table", tableFilterRowCount + 2, table.getRowCount());
     assertFurnitureIsSortedByName(table, true);
+    // Delete the last added piece and check its row was removed
+    home.deletePieceOfFurniture(home.getFurniture().get(home.getFurniture().size() - 1));
+    assertEquals("Wrong row count in table", tableFilterRowCount + 1, table.getRowCount());
+    home.addPieceOfFurniture(new HomePieceOfFurniture(otherPiece));
 
     // 6. Remove filter
     table.setFurnitureFilter(null);
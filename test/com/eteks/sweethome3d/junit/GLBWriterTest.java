@@ -0,0 +1,97 @@
+/*
+ * GLBWriterTest.java 19 oct. 2026
+ *
+ * Copyright (c) 2026 Emmanuel PUYBARET / eTeks <info@eteks.com>. All Rights Reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 59 Temple
+ * Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package com.eteks.sweethome3d.junit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import javax.media.j3d.Appearance;
+import javax.media.j3d.BranchGroup;
+import javax.media.j3d.GeometryArray;
+import javax.media.j3d.Material;
+import javax.media.j3d.Shape3D;
+import javax.media.j3d.Transform3D;
+import javax.media.j3d.TransformGroup;
+import javax.media.j3d.TriangleArray;
+import javax.vecmath.Vector3f;
+
+import junit.framework.TestCase;
+
+import com.eteks.sweethome3d.j3d.GLBWriter;
+import com.sun.j3d.utils.geometry.Box;
+
+/**
+ * Test {@link com.eteks.sweethome3d.j3d.GLBWriter GLB writer} features.
+ * @author Emmanuel Puybaret
+ */
+public class GLBWriterTest extends TestCase {
+  /**
+   * Simple test of GLBWriter class with Java 3D objects.
+   */
+  public void testGLBWriter() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    GLBWriter writer = new GLBWriter(out, "Test");
+    writer.writeNode(new Box());
+    writer.close();
+
+    // Check GLB header and chunks
+    ByteBuffer glb = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals("Wrong magic", 0x46546C67, glb.getInt(0));
+    assertEquals("Wrong version", 2, glb.getInt(4));
+    assertEquals("Wrong length", out.size(), glb.getInt(8));
+    int jsonLength = glb.getInt(12);
+    assertEquals("Wrong JSON chunk type", 0x4E4F534A, glb.getInt(16));
+    assertEquals("JSON chunk not aligned", 0, jsonLength % 4);
+    assertEquals("Wrong binary chunk type", 0x004E4942, glb.getInt(20 + jsonLength + 4));
+    assertEquals("Wrong binary chunk length", out.size() - 28 - jsonLength, glb.getInt(20 + jsonLength));
+  }
+
+  /**
+   * Tests that shapes sharing the same geometry and appearance are exported as a single mesh.
+   */
+  public void testSharedMeshes() throws IOException {
+    TriangleArray triangle = new TriangleArray(3, GeometryArray.COORDINATES);
+    triangle.setCoordinates(0, new float [] {0, 0, 0, 1, 0, 0, 0, 1, 0});
+    Appearance appearance = new Appearance();
+    appearance.setMaterial(new Material());
+    BranchGroup root = new BranchGroup();
+    for (int i = 0; i < 10; i++) {
+      Transform3D translation = new Transform3D();
+      translation.setTranslation(new Vector3f(i * 2f, 0, 0));
+      TransformGroup translationGroup = new TransformGroup(translation);
+      translationGroup.addChild(new Shape3D(triangle, appearance));
+      root.addChild(translationGroup);
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    GLBWriter writer = new GLBWriter(out, null);
+    writer.writeNode(root, "triangles");
+    writer.close();
+
+    ByteBuffer glb = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+    String json = new String(out.toByteArray(), 20, glb.getInt(12), "UTF-8");
+    assertEquals("Wrong mesh count", 1, json.split("\"primitives\"").length - 1);
+    assertEquals("Wrong node count", 10, json.split("\"mesh\":0").length - 1);
+    // Data of the triangle should be written once: 3 coordinates, 3 indices + padding
+    assertEquals("Wrong binary length", 36 + 8, glb.getInt(20 + glb.getInt(12)));
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * HomeController3DTest.java 19 oct. 2026
+ *
+ * Copyright (c) 2026 Emmanuel PUYBARET / eTeks <info@eteks.com>. All Rights Reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+package com.eteks.sweethome3d.junit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import com.eteks.sweethome3d.io.DefaultUserPreferences;
+import com.eteks.sweethome3d.model.Camera;
+import com.eteks.sweethome3d.model.CatalogPieceOfFurniture;
+import com.eteks.sweethome3d.model.Home;
+import com.eteks.sweethome3d.model.HomeFurnitureGroup;
+import com.eteks.sweethome3d.model.HomePieceOfFurniture;
+import com.eteks.sweethome3d.model.Level;
+import com.eteks.sweethome3d.model.UserPreferences;
+import com.eteks.sweethome3d.model.Wall;
+import com.eteks.sweethome3d.viewcontroller.HomeController3D;
+
+/**
+ * Tests {@link com.eteks.sweethome3d.viewcontroller.HomeController3D HomeController3D} class.
+ * @author Emmanuel Puybaret
+ */
+public class HomeController3DTest extends TestCase {
+  /**
+   * Tests aerial view follows home bounds when home items are modified.
+   */
+  public void testAerialViewBounds() {
+    UserPreferences preferences = new DefaultUserPreferences();
+    CatalogPieceOfFurniture box = new CatalogPieceOfFurniture("Box", null, null, 50, 40, 30, true, false);
+    Random random = new Random(1);
+    Home home = new Home();
+    Level level0 = new Level("0", 0, 12, 250);
+    Level level1 = new Level("1", 250, 12, 250);
+    home.addLevel(level0);
+    home.addLevel(level1);
+    home.setSelectedLevel(level0);
+    new HomeController3D(home, preferences, null, null, null);
+
+    List<Wall> walls = new ArrayList<Wall>();
+    for (int i = 0; i < 10; i++) {
+      Wall wall = new Wall(random.nextInt(1000), random.nextInt(1000),
+          random.nextInt(1000), random.nextInt(1000), 10, 250);
+      home.addWall(wall);
+      if (i > 0) {
+        walls.get(i - 1).setWallAtEnd(wall);
+        wall.setWallAtStart(walls.get(i - 1));
+      }
+      walls.add(wall);
+    }
+    home.setSelectedLevel(level1);
+    List<HomePieceOfFurniture> pieces = new ArrayList<HomePieceOfFurniture>();
+    for (int i = 0; i < 20; i++) {
+      HomePieceOfFurniture piece = new HomePieceOfFurniture(box);
+      piece.setX(random.nextInt(2000));
+      piece.setY(random.nextInt(2000));
+      home.addPieceOfFurniture(piece);
+      pieces.add(piece);
+    }
+    HomePieceOfFurniture [] groupedPieces = {new HomePieceOfFurniture(box), new HomePieceOfFurniture(box)};
+    groupedPieces [1].setX(500);
+    HomeFurnitureGroup group = new HomeFurnitureGroup(Arrays.asList(groupedPieces), "Group");
+    home.addPieceOfFurniture(group);
+    assertCameraLocation(home, preferences);
+
+    for (int i = 0; i < 200; i++) {
+      switch (random.nextInt(7)) {
+        case 0 :
+          HomePieceOfFurniture piece = pieces.get(random.nextInt(pieces.size()));
+          piece.setX(piece.getX() + random.nextInt(1000) - 500);
+          break;
+        case 1 :
+          Wall wall = walls.get(random.nextInt(walls.size()));
+          wall.setXStart(wall.getXStart() + random.nextInt(400) - 200);
+          wall.setThickness(5 + random.nextInt(50));
+          break;
+        case 2 :
+          home.setSelectedLevel(random.nextBoolean() ? level0 : level1);
+          break;
+        case 3 :
+          level1.setElevation(200 + random.nextInt(200));
+          break;
+        case 4 :
+          groupedPieces [random.nextInt(groupedPieces.length)].setY(random.nextInt(3000) - 1000);
+          break;
+        case 5 :
+          group.setLevel(random.nextBoolean() ? level0 : level1);
+          break;
+        case 6 :
+          if (pieces.size() > 5) {
+            home.deletePieceOfFurniture(pieces.remove(random.nextInt(pieces.size())));
+          }
+          break;
+      }
+      assertCameraLocation(home, preferences);
+    }
+  }
+
+  /**
+   * Asserts the location of home camera doesn't change when a new controller
+   * computes home bounds from scratch.
+   */
+  private void assertCameraLocation(Home home, UserPreferences preferences) {
+    Camera camera = home.getCamera();
+    float x = camera.getX();
+    float y = camera.getY();
+    float z = camera.getZ();
+    new HomeController3D(home, preferences, null, null, null);
+    assertEquals("Wrong x", x, camera.getX(), 1E-3);
+    assertEquals("Wrong y", y, camera.getY(), 1E-3);
+    assertEquals("Wrong z", z, camera.getZ(), 1E-3);
+  }
+}
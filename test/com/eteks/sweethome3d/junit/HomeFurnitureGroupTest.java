@@ -0,0 +1,142 @@
+/*
+ * HomeFurnitureGroupTest.java 19 oct. 2026
+ *
+ * Copyright (c) 2026 Emmanuel PUYBARET / eTeks <info@eteks.com>. All Rights Reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+package com.eteks.sweethome3d.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import com.eteks.sweethome3d.model.CatalogPieceOfFurniture;
+import com.eteks.sweethome3d.model.Home;
+import com.eteks.sweethome3d.model.HomeFurnitureGroup;
+import com.eteks.sweethome3d.model.HomePieceOfFurniture;
+
+/**
+ * Tests {@link com.eteks.sweethome3d.model.HomeFurnitureGroup HomeFurnitureGroup} class.
+ * @author Emmanuel Puybaret
+ */
+public class HomeFurnitureGroupTest extends TestCase {
+  private static final CatalogPieceOfFurniture BOX =
+      new CatalogPieceOfFurniture("Box", null, null, 50, 40, 30, true, false);
+
+  /**
+   * Tests that group bounds stay equal to the ones of a new group
+   * when the pieces of nested groups are moved, rotated and resized.
+   */
+  public void testGroupBoundsUpdate() {
+    Random random = new Random(1);
+    List<HomePieceOfFurniture> pieces = new ArrayList<HomePieceOfFurniture>();
+    HomeFurnitureGroup group = createNestedGroups(3, 10, random, pieces);
+
+    for (int i = 0; i < 500; i++) {
+      HomePieceOfFurniture piece = pieces.get(random.nextInt(pieces.size()));
+      switch (random.nextInt(5)) {
+        case 0 :
+          piece.setX(piece.getX() + random.nextInt(200) - 100);
+          break;
+        case 1 :
+          piece.setY(piece.getY() + random.nextInt(200) - 100);
+          break;
+        case 2 :
+          piece.setAngle(random.nextFloat() * 6);
+          break;
+        case 3 :
+          piece.setElevation(random.nextInt(100));
+          break;
+        case 4 :
+          piece.setWidth(10 + random.nextInt(100));
+          break;
+      }
+      assertGroupBounds(group);
+    }
+
+    // Move and rotate whole group
+    group.setX(group.getX() + 100);
+    group.setAngle(1);
+    group.setElevation(50);
+    assertGroupBounds(group);
+    pieces.get(0).setY(pieces.get(0).getY() - 500);
+    assertGroupBounds(group);
+  }
+
+  /**
+   * Tests that moving a group of nested groups and their pieces keeps group bounds up to date.
+   */
+  public void testNestedGroupsMove() {
+    Random random = new Random(2);
+    List<HomePieceOfFurniture> pieces = new ArrayList<HomePieceOfFurniture>();
+    HomeFurnitureGroup group = createNestedGroups(4, 8, random, pieces);
+    Home home = new Home();
+    home.addPieceOfFurniture(group);
+
+    for (int i = 0; i < 100; i++) {
+      group.move(10, 5);
+    }
+    for (HomePieceOfFurniture piece : pieces) {
+      piece.move(1, 1);
+    }
+    assertGroupBounds(group);
+  }
+
+  /**
+   * Returns a group made of <code>depth</code> levels of groups containing each <code>count</code> pieces
+   * which are added to <code>pieces</code>.
+   */
+  private HomeFurnitureGroup createNestedGroups(int depth, int count, Random random,
+                                                List<HomePieceOfFurniture> pieces) {
+    List<HomePieceOfFurniture> furniture = new ArrayList<HomePieceOfFurniture>();
+    for (int i = 0; i < count; i++) {
+      HomePieceOfFurniture piece = new HomePieceOfFurniture(BOX);
+      piece.setX(random.nextInt(1000));
+      piece.setY(random.nextInt(1000));
+      piece.setAngle(random.nextFloat() * 6);
+      furniture.add(piece);
+      pieces.add(piece);
+    }
+    if (depth > 1) {
+      furniture.add(createNestedGroups(depth - 1, count, random, pieces));
+    }
+    // Use the same angle for all groups to ensure a sub group always notifies its parent when its bounds change
+    return new HomeFurnitureGroup(furniture, 0.5f, false, "group");
+  }
+
+  /**
+   * Asserts the given <code>group</code> and its sub groups have the same location and size
+   * as groups built from their cloned furniture.
+   */
+  private void assertGroupBounds(HomeFurnitureGroup group) {
+    List<HomePieceOfFurniture> clonedFurniture = new ArrayList<HomePieceOfFurniture>();
+    for (HomePieceOfFurniture piece : group.getFurniture()) {
+      clonedFurniture.add(piece.clone());
+      if (piece instanceof HomeFurnitureGroup) {
+        assertGroupBounds((HomeFurnitureGroup)piece);
+      }
+    }
+    HomeFurnitureGroup expectedGroup = new HomeFurnitureGroup(clonedFurniture, group.getAngle(), false, "expected");
+    assertEquals("Wrong X", expectedGroup.getX(), group.getX(), 1E-3);
+    assertEquals("Wrong Y", expectedGroup.getY(), group.getY(), 1E-3);
+    assertEquals("Wrong width", expectedGroup.getWidth(), group.getWidth(), 1E-3);
+    assertEquals("Wrong depth", expectedGroup.getDepth(), group.getDepth(), 1E-3);
+    assertEquals("Wrong height", expectedGroup.getHeight(), group.getHeight(), 1E-3);
+    assertEquals("Wrong elevation", expectedGroup.getElevation(), group.getElevation(), 1E-3);
+  }
+}
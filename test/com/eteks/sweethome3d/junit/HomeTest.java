@@ -22,6 +22,7 @@ package com.eteks.sweethome3d.junit;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,6 +32,7 @@ import com.eteks.sweethome3d.model.CollectionListener;
 import com.eteks.sweethome3d.model.Home;
 import com.eteks.sweethome3d.model.HomeObject;
 import com.eteks.sweethome3d.model.Label;
+import com.eteks.sweethome3d.model.Room;
 import com.eteks.sweethome3d.model.Wall;
 
 import junit.framework.TestCase;
@@ -132,6 +134,35 @@ public class HomeTest extends TestCase {
     assertWallCollectionContains(deletedWalls, wall2);
   }
 
+  public void testHomeItemsListsUnchanged() {
+    // Check lists returned by home aren't modified by later additions and deletions
+    Home home = new Home();
+    Wall wall1 = new Wall(0, 0, 100, 0, 0, home.getWallHeight());
+    home.addWall(wall1);
+    Collection<Wall> walls = home.getWalls();
+    Wall wall2 = new Wall(100, 0, 100, 100, 0, home.getWallHeight());
+    home.addWall(wall2);
+    assertWallCollectionContains(walls, wall1);
+    assertWallCollectionContains(home.getWalls(), wall1, wall2);
+    // Add a third wall without requesting home walls to check it's added to the same list
+    Wall wall3 = new Wall(100, 100, 0, 100, 0, home.getWallHeight());
+    home.addWall(wall3);
+    walls = home.getWalls();
+    assertWallCollectionContains(walls, wall1, wall2, wall3);
+    home.deleteWall(wall2);
+    assertWallCollectionContains(walls, wall1, wall2, wall3);
+    assertWallCollectionContains(home.getWalls(), wall1, wall3);
+
+    Room room1 = new Room(new float [][] {{0, 0}, {100, 0}, {100, 100}});
+    Room room2 = new Room(new float [][] {{0, 0}, {100, 100}, {0, 100}});
+    home.addRoom(room1);
+    home.addRoom(room2);
+    List<Room> rooms = home.getRooms();
+    home.deleteRoom(room1);
+    assertEquals("Wrong rooms count", 2, rooms.size());
+    assertEquals("Wrong rooms", Arrays.asList(room2), home.getRooms());
+  }
+
   public void testProperties() {
     // Test properties management on a subclass of HomeObject
     HomeObject object = new HomeObject() { };